@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded cache of artifacts parsed against an owner, such as the JSON CRAC parsed against the
+ * network of a request, looked up by URL and owner identity. Owners are only weakly referenced: the
+ * artifacts of a request are dropped as soon as its network is no longer used, whichever other
+ * requests are running. Cached artifacts must not reference their owner.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class ArtifactCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactCache.class);
+
+    private final int maxEntries;
+    private final Map<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ArtifactCache(@Value("${cse-valid-runner.artifact-cache.max-entries:32}") int maxEntries, MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.hitCounter = meterRegistry.counter("cse.valid.artifact.cache.hits");
+        this.missCounter = meterRegistry.counter("cse.valid.artifact.cache.misses");
+    }
+
+    /**
+     * Returns the artifact parsed from the given URL against the given owner, compared by identity,
+     * parsing and caching it if absent.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String url, Object owner, Supplier<T> parser) {
+        Objects.requireNonNull(owner);
+        synchronized (this) {
+            purgeCollectedOwners();
+            T cachedArtifact = (T) entries.get(new Key(url, owner, null));
+            if (cachedArtifact != null) {
+                hitCounter.increment();
+                LOGGER.debug("Artifact {} found in cache", url);
+                return cachedArtifact;
+            }
+        }
+        missCounter.increment();
+        T artifact = parser.get();
+        if (maxEntries > 0 && artifact != null) {
+            put(new Key(url, owner, collectedOwners), artifact);
+        }
+        return artifact;
+    }
+
+    public synchronized int size() {
+        purgeCollectedOwners();
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public double getHitCount() {
+        return hitCounter.count();
+    }
+
+    public double getMissCount() {
+        return missCounter.count();
+    }
+
+    private synchronized void put(Key key, Object artifact) {
+        entries.put(key, artifact);
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (entries.size() > maxEntries) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void purgeCollectedOwners() {
+        Reference<?> collectedOwner;
+        while ((collectedOwner = collectedOwners.poll()) != null) {
+            entries.remove(collectedOwner);
+        }
+    }
+
+    /**
+     * Weak reference to the owner of an artifact, equal to the keys of the same URL and owner as long as
+     * the owner is reachable, and then only to itself so that it can be removed.
+     */
+    private static final class Key extends WeakReference<Object> {
+        private final String url;
+        private final int hash;
+
+        private Key(String url, Object owner, ReferenceQueue<Object> queue) {
+            super(owner, queue);
+            this.url = url;
+            this.hash = 31 * url.hashCode() + System.identityHashCode(owner);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other) || hash != other.hash || !url.equals(other.url)) {
+                return false;
+            }
+            Object owner = get();
+            return owner != null && owner == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the executors of the computations that mostly wait on blocking I/O (file transfers,
+ * RAO round trips). When virtual threads are enabled, their tasks run on virtual threads, so that
+ * waiting on a RAO runner does not hold a platform thread. The number of tasks running at once
+ * is bounded in both cases, since each of them holds its own network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class ComputationExecutors {
+    private final boolean virtualThreads;
+
+    public ComputationExecutors(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public ExecutorService newFixedExecutor(String threadNamePrefix, int nThreads) {
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+                : Thread.ofPlatform().name(threadNamePrefix, 0).factory();
+        return Executors.newFixedThreadPool(Math.max(1, nThreads), threadFactory);
+    }
+
+    /**
+     * Executor starting a new thread for each task, for tasks whose number is already bounded by their callers.
+     */
+    public ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+                : Thread.ofPlatform().name(threadNamePrefix, 0).daemon(true).factory();
+        return Executors.newThreadPerTaskExecutor(threadFactory);
+    }
+}
@@ -26,6 +26,7 @@ public final class Constants {
     public static final String ERROR_MSG_CONTRADICTORY_DATA = "Process fail during TSO validation phase: Contradictory datas.";
     public static final String ERROR_MSG_GENERIC = "Process fail during TSO validation phase.";
     public static final ZoneId EUROPE_BRUSSELS_ZONE_ID = ZoneId.of("Europe/Brussels");
+    public static final String INITIAL_STATE_VARIANT_ID = "InitialStateBeforeShift";
 
     private Constants() { }
 }
@@ -6,7 +6,10 @@
  */
 package com.farao_community.farao.cse_valid.app;
 
+import com.farao_community.farao.cse_valid.app.configuration.DichotomyConfiguration;
+import com.farao_community.farao.cse_valid.app.configuration.DichotomyHistoryConfiguration;
 import com.farao_community.farao.cse_valid.app.configuration.EicCodesConfiguration;
+import com.farao_community.farao.cse_valid.app.configuration.NetworkExportConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -16,7 +19,7 @@ import org.springframework.retry.annotation.EnableRetry;
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
  */
 @SpringBootApplication
-@EnableConfigurationProperties({EicCodesConfiguration.class})
+@EnableConfigurationProperties({EicCodesConfiguration.class, DichotomyConfiguration.class, DichotomyHistoryConfiguration.class, NetworkExportConfiguration.class})
 @EnableRetry
 public class CseValidApplication {
     public static void main(String[] args) {
@@ -17,6 +17,7 @@ import com.farao_community.farao.cse_valid.app.service.FullImportComputationServ
 import com.farao_community.farao.cse_valid.app.ttc_adjustment.TTimestamp;
 import com.farao_community.farao.cse_valid.app.ttc_adjustment.TcDocumentType;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -40,6 +41,8 @@ public class CseValidHandler {
     private final Logger businessLogger;
     private final FullImportComputationService fullImportComputationService;
     private final ExportCornerComputationService exportCornerComputationService;
+    private final TtcDocumentCodec ttcDocumentCodec;
+    private final boolean streamingTtcImport;
 
     public CseValidHandler(EicCodesConfiguration eicCodesConfiguration,
                            EicCodesMapper eicCodesMapper,
@@ -47,7 +50,9 @@ public class CseValidHandler {
                            FileExporter fileExporter,
                            Logger businessLogger,
                            FullImportComputationService fullImportComputationService,
-                           ExportCornerComputationService exportCornerComputationService) {
+                           ExportCornerComputationService exportCornerComputationService,
+                           TtcDocumentCodec ttcDocumentCodec,
+                           @Value("${cse-valid-runner.ttc-document.streaming-import:true}") boolean streamingTtcImport) {
         this.eicCodesConfiguration = eicCodesConfiguration;
         this.eicCodesMapper = eicCodesMapper;
         this.fileImporter = fileImporter;
@@ -55,31 +60,69 @@ public class CseValidHandler {
         this.businessLogger = businessLogger;
         this.fullImportComputationService = fullImportComputationService;
         this.exportCornerComputationService = exportCornerComputationService;
+        this.ttcDocumentCodec = ttcDocumentCodec;
+        // Schema validation needs the whole document, streaming import is only used without it
+        this.streamingTtcImport = streamingTtcImport && !ttcDocumentCodec.isSchemaValidationEnabled();
     }
 
     public CseValidResponse handleCseValidRequest(CseValidRequest cseValidRequest) {
         Instant computationStartInstant = Instant.now();
-        TcDocumentType tcDocumentType = importTtcAdjustmentFile(cseValidRequest.getTtcAdjustment());
-        TcDocumentTypeWriter tcDocumentTypeWriter = new TcDocumentTypeWriter(cseValidRequest);
-        if (tcDocumentType != null) {
-            TTimestamp timestampData = getTimestampData(cseValidRequest, tcDocumentType);
-            if (timestampData != null) {
-                TTimestampWrapper timestampWrapper = new TTimestampWrapper(timestampData, eicCodesConfiguration, eicCodesMapper);
-                computeTimestamp(timestampWrapper, cseValidRequest, tcDocumentTypeWriter);
-            } else {
-                String ttcAdjTimestamp = formatTimestamp(cseValidRequest.getTime());
-                String refCalcTimestamp = formatTimestamp(cseValidRequest.getTimestamp());
-                businessLogger.warn("No timestamp available in ttc adjustment for time {} and reference calculation time {}", ttcAdjTimestamp, refCalcTimestamp);
-                tcDocumentTypeWriter.fillNoTtcAdjustmentError(cseValidRequest);
-            }
+        TcDocumentTypeWriter tcDocumentTypeWriter = new TcDocumentTypeWriter(cseValidRequest, ttcDocumentCodec);
+        TTimestamp timestampData;
+        if (streamingTtcImport) {
+            timestampData = getStreamedTimestampData(cseValidRequest, tcDocumentTypeWriter);
         } else {
-            tcDocumentTypeWriter.fillNoTtcAdjustmentError(cseValidRequest);
+            TcDocumentType tcDocumentType = importTtcAdjustmentFile(cseValidRequest.getTtcAdjustment());
+            timestampData = getTimestampData(cseValidRequest, tcDocumentType, tcDocumentTypeWriter);
+        }
+        if (timestampData != null) {
+            TTimestampWrapper timestampWrapper = new TTimestampWrapper(timestampData, eicCodesConfiguration, eicCodesMapper);
+            computeTimestamp(timestampWrapper, cseValidRequest, tcDocumentTypeWriter);
         }
         String ttcValidationUrl = fileExporter.saveTtcValidation(tcDocumentTypeWriter, cseValidRequest.getTimestamp(), cseValidRequest.getProcessType());
         Instant computationEndInstant = Instant.now();
         return new CseValidResponse(cseValidRequest.getId(), ttcValidationUrl, computationStartInstant, computationEndInstant);
     }
 
+    /**
+     * Returns the timestamp of the TTC adjustment document matching the request, or fills the
+     * writer with the corresponding error and returns null if there is none.
+     */
+    private TTimestamp getTimestampData(CseValidRequest cseValidRequest, TcDocumentType tcDocumentType, TcDocumentTypeWriter tcDocumentTypeWriter) {
+        if (tcDocumentType == null) {
+            tcDocumentTypeWriter.fillNoTtcAdjustmentError(cseValidRequest);
+            return null;
+        }
+        TTimestamp timestampData = getTimestampData(cseValidRequest, tcDocumentType);
+        if (timestampData == null) {
+            fillNoTimestampAvailable(cseValidRequest, tcDocumentTypeWriter);
+        }
+        return timestampData;
+    }
+
+    /**
+     * Same as {@link #getTimestampData(CseValidRequest, TcDocumentType, TcDocumentTypeWriter)}, but reads
+     * the TTC adjustment file as a stream and binds only the timestamp matching the request.
+     */
+    private TTimestamp getStreamedTimestampData(CseValidRequest cseValidRequest, TcDocumentTypeWriter tcDocumentTypeWriter) {
+        if (cseValidRequest.getTtcAdjustment() == null) {
+            tcDocumentTypeWriter.fillNoTtcAdjustmentError(cseValidRequest);
+            return null;
+        }
+        TTimestamp timestampData = fileImporter.importTtcAdjustmentTimestamp(cseValidRequest.getTtcAdjustment().getUrl(), t -> isRequestedTimestamp(t, cseValidRequest));
+        if (timestampData == null) {
+            fillNoTimestampAvailable(cseValidRequest, tcDocumentTypeWriter);
+        }
+        return timestampData;
+    }
+
+    private void fillNoTimestampAvailable(CseValidRequest cseValidRequest, TcDocumentTypeWriter tcDocumentTypeWriter) {
+        String ttcAdjTimestamp = formatTimestamp(cseValidRequest.getTime());
+        String refCalcTimestamp = formatTimestamp(cseValidRequest.getTimestamp());
+        businessLogger.warn("No timestamp available in ttc adjustment for time {} and reference calculation time {}", ttcAdjTimestamp, refCalcTimestamp);
+        tcDocumentTypeWriter.fillNoTtcAdjustmentError(cseValidRequest);
+    }
+
     private TcDocumentType importTtcAdjustmentFile(CseValidFileResource ttcAdjustmentFile) {
         return ttcAdjustmentFile != null ? fileImporter.importTtcAdjustment(ttcAdjustmentFile.getUrl()) : null;
     }
@@ -87,8 +130,7 @@ public class CseValidHandler {
     private TTimestamp getTimestampData(CseValidRequest cseValidRequest, TcDocumentType tcDocumentType) {
         if (tcDocumentType.getAdjustmentResults().get(0) != null) {
             return tcDocumentType.getAdjustmentResults().get(0).getTimestamp().stream()
-                    .filter(t -> t.getReferenceCalculationTime().getV().equals(formatTimestamp(cseValidRequest.getTimestamp()))
-                            && t.getTime().getV().equals(formatTimestamp(cseValidRequest.getTime())))
+                    .filter(t -> isRequestedTimestamp(t, cseValidRequest))
                     .findFirst()
                     .orElse(null);
         } else {
@@ -96,6 +138,11 @@ public class CseValidHandler {
         }
     }
 
+    private boolean isRequestedTimestamp(TTimestamp timestamp, CseValidRequest cseValidRequest) {
+        return timestamp.getReferenceCalculationTime().getV().equals(formatTimestamp(cseValidRequest.getTimestamp()))
+                && timestamp.getTime().getV().equals(formatTimestamp(cseValidRequest.getTime()));
+    }
+
     private String formatTimestamp(OffsetDateTime offsetDateTime) {
         // format to "yyy-MM-ddThh:mmZ"
         return offsetDateTime.withOffsetSameInstant(ZoneOffset.UTC).toString();
@@ -11,6 +11,9 @@ import com.farao_community.farao.cse_valid.app.configuration.EicCodesConfigurati
 import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.shift.LinearScaler;
 import com.farao_community.farao.dichotomy.shift.SplittingFactors;
+import com.powsybl.glsk.api.GlskDocument;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.network.Network;
 import org.springframework.stereotype.Component;
 
@@ -39,8 +42,12 @@ public class CseValidNetworkShifterProvider {
                                              Network network,
                                              String glskUrl,
                                              ProcessType processType) {
+        return getNetworkShifter(splittiFactorMap, zonalScalableProvider.get(glskUrl, network, processType));
+    }
+
+    private static NetworkShifter getNetworkShifter(Map<String, Double> splittiFactorMap, ZonalData<Scalable> zonalScalable) {
         return new LinearScaler(
-            zonalScalableProvider.get(glskUrl, network, processType),
+            zonalScalable,
             new SplittingFactors(splittiFactorMap),
             SHIFT_TOLERANCE);
     }
@@ -52,6 +59,13 @@ public class CseValidNetworkShifterProvider {
         return getNetworkShifter(getSplittingFactorsForFullImport(timestampWrapper), network, glskUrl, processType);
     }
 
+    public NetworkShifter getNetworkShifterForFullImport(TTimestampWrapper timestampWrapper,
+                                                         Network network,
+                                                         GlskDocument glskDocument,
+                                                         ProcessType processType) {
+        return getNetworkShifter(getSplittingFactorsForFullImport(timestampWrapper), zonalScalableProvider.get(glskDocument, network, processType));
+    }
+
     public NetworkShifter getNetworkShifterForExportCornerWithItalyFrance(TTimestampWrapper timestampWrapper,
                                                                           Network network,
                                                                           String glskUrl,
@@ -66,6 +80,13 @@ public class CseValidNetworkShifterProvider {
         return getNetworkShifter(getSplittingFactorsForExportCornerWithAllCountries(timestampWrapper), network, glskUrl, processType);
     }
 
+    public NetworkShifter getNetworkShifterForExportCornerWithAllCountries(TTimestampWrapper timestampWrapper,
+                                                                           Network network,
+                                                                           GlskDocument glskDocument,
+                                                                           ProcessType processType) {
+        return getNetworkShifter(getSplittingFactorsForExportCornerWithAllCountries(timestampWrapper), zonalScalableProvider.get(glskDocument, network, processType));
+    }
+
     Map<String, Double> getSplittingFactorsForFullImport(TTimestampWrapper timestampWrapper) {
         Map<String, Double> splittingFactorsMap = timestampWrapper.getImportCornerSplittingFactors();
         splittingFactorsMap.put(eicCodesConfiguration.getItaly(), -1.);
@@ -8,17 +8,25 @@ package com.farao_community.farao.cse_valid.app;
 
 import com.farao_community.farao.cse_valid.api.exception.CseValidInternalException;
 import com.farao_community.farao.cse_valid.api.resource.ProcessType;
+import com.farao_community.farao.cse_valid.app.configuration.NetworkExportConfiguration;
+import com.farao_community.farao.cse_valid.app.helper.ContentHashHelper;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.farao_community.farao.minio_adapter.starter.MinioUploadException;
+import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.datasource.MemDataSource;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -28,7 +36,11 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Properties;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
@@ -40,24 +52,50 @@ public class FileExporter {
 
     private static final String JSON_CRAC_FILE_NAME = "crac.json";
     private static final String RAO_PARAMETERS_FILE_NAME = "raoParameters.json";
+    private static final String RAO_PARAMETERS_DIRECTORY = "RAO_PARAMETERS";
+    private static final String CRAC_DIRECTORY = "CRAC";
+    private static final String CRAC_CREATOR_VERSION = String.valueOf(CseCracCreationContext.class.getPackage().getImplementationVersion());
     private static final String MINIO_SEPARATOR = "/";
     private static final String ZONE_ID = "Europe/Paris";
     private static final String PROCESS_TYPE_PREFIX = "CSE_VALID_";
+    private static final int NETWORK_WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FILE_VERSION = 99;
+    private static final int MAX_REMEMBERED_FILE_VERSIONS = 64;
 
     private final MinioAdapter minioAdapter;
+    private final NetworkExportConfiguration networkExportConfiguration;
+    private final Map<ProcessType, SerializedRaoParameters> serializedRaoParametersByProcessType = new EnumMap<>(ProcessType.class);
+    private final Map<String, Integer> lastExistingFileVersions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_REMEMBERED_FILE_VERSIONS;
+        }
+    });
+    private PlatformConfig raoParametersPlatformConfig;
 
-    public FileExporter(MinioAdapter minioAdapter) {
+    public FileExporter(MinioAdapter minioAdapter, NetworkExportConfiguration networkExportConfiguration) {
         this.minioAdapter = minioAdapter;
+        this.networkExportConfiguration = networkExportConfiguration;
     }
 
-    public String saveCracInJsonFormat(Crac crac, OffsetDateTime processTargetDateTime, ProcessType processType) {
+    /**
+     * Uploads the CRAC in JSON format under a path derived from the native CRAC it has been created from,
+     * the network it has been created on and the version of the CRAC creator. The CRAC is neither written
+     * nor uploaded when an identical one has already been stored, its URL being reused.
+     */
+    public String saveCracInJsonFormat(Crac crac, String nativeCracUrl, Network network, OffsetDateTime processTargetDateTime, ProcessType processType) {
+        String cracHash = ContentHashHelper.sha256(removeQuery(nativeCracUrl), network.getId(), CRAC_CREATOR_VERSION);
+        String cracPath = processType + MINIO_SEPARATOR + FileKind.ARTIFACTS + MINIO_SEPARATOR
+                + CRAC_DIRECTORY + MINIO_SEPARATOR + cracHash + MINIO_SEPARATOR + JSON_CRAC_FILE_NAME;
+        if (minioAdapter.fileExists(cracPath)) {
+            return minioAdapter.generatePreSignedUrl(cracPath);
+        }
         MemDataSource memDataSource = new MemDataSource();
         try (OutputStream os = memDataSource.newOutputStream(JSON_CRAC_FILE_NAME, false)) {
             crac.write("JSON", os);
         } catch (IOException e) {
             throw new CseValidInternalException("Error while trying to save converted CRAC file.", e);
         }
-        String cracPath = makeDestinationMinioPath(processTargetDateTime, processType, FileKind.ARTIFACTS) + JSON_CRAC_FILE_NAME;
         try (InputStream is = memDataSource.newInputStream(JSON_CRAC_FILE_NAME)) {
             minioAdapter.uploadArtifactForTimestamp(cracPath, is, processType.toString(), "", processTargetDateTime);
         } catch (IOException e) {
@@ -66,31 +104,75 @@ public class FileExporter {
         return minioAdapter.generatePreSignedUrl(cracPath);
     }
 
-    public String saveNetworkInArtifact(Network network, String networkFilePath, String fileType, OffsetDateTime processTargetDateTime, ProcessType processType) {
-        try (InputStream is = getNetworkInputStreamInXiidmFormat(network)) {
-            minioAdapter.uploadArtifactForTimestamp(networkFilePath, is, adaptTargetProcessName(processType), fileType, processTargetDateTime);
+    /**
+     * Uploads the network in the configured exchange format, the matching extension being appended to
+     * the given file path. When streaming is enabled, the network is serialized in a dedicated thread
+     * while being uploaded, so that only a bounded part of it is held in memory.
+     */
+    public String saveNetworkInArtifact(Network network, String networkFileBasePath, String fileType, OffsetDateTime processTargetDateTime, ProcessType processType) {
+        String uploadedFilePath = networkFileBasePath + "." + networkExportConfiguration.getFileExtension();
+        try (InputStream is = getNetworkInputStream(network)) {
+            minioAdapter.uploadArtifactForTimestamp(uploadedFilePath, is, adaptTargetProcessName(processType), fileType, processTargetDateTime);
         } catch (IOException e) {
             throw new CseValidInternalException("Error while trying to save network", e);
         }
-        return minioAdapter.generatePreSignedUrl(networkFilePath);
+        return minioAdapter.generatePreSignedUrl(uploadedFilePath);
     }
 
-    private InputStream getNetworkInputStreamInXiidmFormat(Network network) throws IOException {
-        MemDataSource memDataSource = new MemDataSource();
-        network.write("XIIDM", new Properties(), memDataSource);
-        return memDataSource.newInputStream("", "xiidm");
+    private InputStream getNetworkInputStream(Network network) throws IOException {
+        if (networkExportConfiguration.isStreaming()) {
+            String workingVariantId = network.getVariantManager().getWorkingVariantId();
+            return PipedNetworkInputStream.open(os -> writeNetwork(network, workingVariantId, os), networkExportConfiguration.getBufferSize());
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeNetwork(network, null, baos);
+        return new ByteArrayInputStream(baos.toByteArray());
     }
 
+    private void writeNetwork(Network network, String workingVariantId, OutputStream os) throws IOException {
+        VariantManager variantManager = network.getVariantManager();
+        if (workingVariantId != null && variantManager.isVariantMultiThreadAccessAllowed()) {
+            // The working variant is thread local in multi-thread access mode
+            variantManager.setWorkingVariant(workingVariantId);
+        }
+        try (OutputStream networkOs = networkExportConfiguration.isGzip()
+                ? new GZIPOutputStream(os, NETWORK_WRITE_BUFFER_SIZE)
+                : new BufferedOutputStream(os, NETWORK_WRITE_BUFFER_SIZE)) {
+            ExportOptions exportOptions = new ExportOptions().setFormat(networkExportConfiguration.getFormat().getTreeDataFormat());
+            NetworkSerDe.write(network, exportOptions, networkOs);
+        }
+    }
+
+    /**
+     * Uploads the RAO parameters of the process type under a path derived from their content, unless an
+     * identical file has already been uploaded. The serialized parameters are kept in memory until the
+     * platform config they are loaded from changes.
+     */
     public String saveRaoParameters(OffsetDateTime offsetDateTime, ProcessType processType) {
-        RaoParameters raoParameters = RaoParameters.load();
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        JsonRaoParameters.write(raoParameters, baos);
-        String raoParametersDestinationPath = makeDestinationMinioPath(offsetDateTime, processType, FileKind.ARTIFACTS) + RAO_PARAMETERS_FILE_NAME;
-        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
-        minioAdapter.uploadArtifactForTimestamp(raoParametersDestinationPath, bais, processType.toString(), "", offsetDateTime);
+        SerializedRaoParameters serializedRaoParameters = getSerializedRaoParameters(processType);
+        String raoParametersDestinationPath = processType + MINIO_SEPARATOR + FileKind.ARTIFACTS + MINIO_SEPARATOR
+                + RAO_PARAMETERS_DIRECTORY + MINIO_SEPARATOR + serializedRaoParameters.contentHash() + MINIO_SEPARATOR + RAO_PARAMETERS_FILE_NAME;
+        if (!minioAdapter.fileExists(raoParametersDestinationPath)) {
+            ByteArrayInputStream bais = new ByteArrayInputStream(serializedRaoParameters.content());
+            minioAdapter.uploadArtifactForTimestamp(raoParametersDestinationPath, bais, processType.toString(), "", offsetDateTime);
+        }
         return minioAdapter.generatePreSignedUrl(raoParametersDestinationPath);
     }
 
+    private synchronized SerializedRaoParameters getSerializedRaoParameters(ProcessType processType) {
+        PlatformConfig platformConfig = PlatformConfig.defaultConfig();
+        if (platformConfig != raoParametersPlatformConfig) {
+            serializedRaoParametersByProcessType.clear();
+            raoParametersPlatformConfig = platformConfig;
+        }
+        return serializedRaoParametersByProcessType.computeIfAbsent(processType, type -> {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            JsonRaoParameters.write(RaoParameters.load(platformConfig), baos);
+            byte[] content = baos.toByteArray();
+            return new SerializedRaoParameters(content, ContentHashHelper.sha256(content));
+        });
+    }
+
     @Retryable(retryFor = MinioUploadException.class,
             backoff = @Backoff(delayExpression = "${retry.backoff.delay}", multiplierExpression = "${retry.backoff.multiplier}"),
             maxAttemptsExpression = "${retry.max-attempts}")
@@ -128,19 +210,71 @@ public class FileExporter {
     }
 
     private String getLatestFileVersion(String ttcValidationFileName) {
-        String fileVersionned = ttcValidationFileName.replace("[v]", "1");
+        int version = getNextFileVersion(ttcValidationFileName);
+        // Only versions known to exist are remembered, the upload of this one may still fail
+        lastExistingFileVersions.put(ttcValidationFileName, version - 1);
+        return getVersionedFileName(ttcValidationFileName, version);
+    }
 
-        for (int versionNumber = 1; minioAdapter.fileExists(fileVersionned) && versionNumber <= 99; versionNumber++) {
-            fileVersionned = ttcValidationFileName.replace("[v]", String.valueOf(versionNumber));
+    /**
+     * Versions of a file being created one after the other, the existing ones form a contiguous range
+     * starting at 1. The first missing version is searched from the last one known by this instance,
+     * with exponentially growing steps then by dichotomy, so that only a logarithmic number of
+     * existence checks is needed. When all versions exist, the last one is overwritten.
+     */
+    private int getNextFileVersion(String fileName) {
+        int existingVersion = getLastExistingFileVersion(fileName);
+        int step = 1;
+        int missingVersion = existingVersion + step;
+        while (missingVersion <= MAX_FILE_VERSION && versionExists(fileName, missingVersion)) {
+            existingVersion = missingVersion;
+            step *= 2;
+            missingVersion = existingVersion + step;
         }
+        missingVersion = Math.min(missingVersion, MAX_FILE_VERSION + 1);
+        while (missingVersion - existingVersion > 1) {
+            int version = (existingVersion + missingVersion) / 2;
+            if (versionExists(fileName, version)) {
+                existingVersion = version;
+            } else {
+                missingVersion = version;
+            }
+        }
+        return Math.min(missingVersion, MAX_FILE_VERSION);
+    }
+
+    /**
+     * Returns the last version of the file known by this instance if it still exists, 0 otherwise:
+     * stored files may have been removed since it was remembered.
+     */
+    private int getLastExistingFileVersion(String fileName) {
+        Integer version = lastExistingFileVersions.get(fileName);
+        if (version == null || version == 0) {
+            return 0;
+        }
+        return versionExists(fileName, version) ? version : 0;
+    }
 
-        return fileVersionned;
+    private boolean versionExists(String fileName, int version) {
+        return minioAdapter.fileExists(getVersionedFileName(fileName, version));
+    }
+
+    private static String getVersionedFileName(String fileName, int version) {
+        return fileName.replace("[v]", String.valueOf(version));
+    }
+
+    private static String removeQuery(String url) {
+        int queryIndex = url.indexOf('?');
+        return queryIndex < 0 ? url : url.substring(0, queryIndex);
     }
 
     private String adaptTargetProcessName(ProcessType processType) {
         return PROCESS_TYPE_PREFIX + processType;
     }
 
+    private record SerializedRaoParameters(byte[] content, String contentHash) {
+    }
+
     public enum FileKind {
         ARTIFACTS,
         OUTPUTS
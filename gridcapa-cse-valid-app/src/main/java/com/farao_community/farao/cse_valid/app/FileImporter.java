@@ -8,7 +8,9 @@ package com.farao_community.farao.cse_valid.app;
 
 import com.farao_community.farao.cse_valid.api.exception.CseValidInvalidDataException;
 import com.farao_community.farao.cse_valid.app.configuration.UrlWhitelistConfiguration;
-import com.farao_community.farao.cse_valid.app.ttc_adjustment.ObjectFactory;
+import com.farao_community.farao.cse_valid.app.helper.ContentHashHelper;
+import com.farao_community.farao.cse_valid.app.rao.RaoResultSecuritySummary;
+import com.farao_community.farao.cse_valid.app.ttc_adjustment.TTimestamp;
 import com.farao_community.farao.cse_valid.app.ttc_adjustment.TcDocumentType;
 import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.glsk.api.io.GlskDocumentImporters;
@@ -17,20 +19,21 @@ import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonImporter;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBIntrospector;
-import jakarta.xml.bind.Unmarshaller;
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -40,20 +43,35 @@ import java.net.URL;
 @Service
 public class FileImporter {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileImporter.class);
+    private static final String UCTE_EXTENSION = "uct";
 
     private final UrlWhitelistConfiguration urlWhitelistConfiguration;
     private final Logger businessLogger;
+    private final ArtifactCache artifactCache;
+    private final GlskDocumentCache glskDocumentCache;
+    private final NetworkPool networkPool;
+    private final TtcDocumentCodec ttcDocumentCodec;
+    private final boolean raoResultSecurityProbe;
 
-    public FileImporter(UrlWhitelistConfiguration urlWhitelistConfiguration, Logger businessLogger) {
+    public FileImporter(UrlWhitelistConfiguration urlWhitelistConfiguration,
+                        Logger businessLogger,
+                        ArtifactCache artifactCache,
+                        GlskDocumentCache glskDocumentCache,
+                        NetworkPool networkPool,
+                        TtcDocumentCodec ttcDocumentCodec,
+                        @Value("${cse-valid-runner.rao-result.security-probe:false}") boolean raoResultSecurityProbe) {
         this.urlWhitelistConfiguration = urlWhitelistConfiguration;
         this.businessLogger = businessLogger;
+        this.artifactCache = artifactCache;
+        this.glskDocumentCache = glskDocumentCache;
+        this.networkPool = networkPool;
+        this.ttcDocumentCodec = ttcDocumentCodec;
+        this.raoResultSecurityProbe = raoResultSecurityProbe;
     }
 
     public TcDocumentType importTtcAdjustment(String ttcUrl) {
         try (InputStream is = openUrlStream(ttcUrl)) {
-            JAXBContext jaxbContext = JAXBContext.newInstance(ObjectFactory.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (TcDocumentType) JAXBIntrospector.getValue(unmarshaller.unmarshal(is));
+            return ttcDocumentCodec.readTtcAdjustment(is);
         } catch (Exception e) {
             String msg = String.format("Error importing TTC adjustment file at %s", ttcUrl);
             LOGGER.warn(msg, e);
@@ -62,14 +80,28 @@ public class FileImporter {
         }
     }
 
-    public GlskDocument importGlsk(String glskUrl) {
-        try (InputStream is = openUrlStream(glskUrl)) {
-            return GlskDocumentImporters.importGlskWithCalculationDirections(is);
-        } catch (IOException e) {
-            throw new CseValidInvalidDataException(String.format("Error importing GLSK file at %s", glskUrl), e);
+    /**
+     * Imports only the timestamp of the TTC adjustment file matching the given filter, without binding the whole document.
+     *
+     * @return the matching timestamp, or null if there is none or if the file could not be read
+     */
+    public TTimestamp importTtcAdjustmentTimestamp(String ttcUrl, Predicate<TTimestamp> timestampFilter) {
+        try (InputStream is = openUrlStream(ttcUrl)) {
+            return ttcDocumentCodec.readTtcAdjustmentTimestamp(is, timestampFilter);
+        } catch (Exception e) {
+            String msg = String.format("Error importing TTC adjustment file at %s", ttcUrl);
+            LOGGER.warn(msg, e);
+            businessLogger.warn("{}. Nested cause: {}", msg, e.getMessage());
+            return null;
         }
     }
 
+    public GlskDocument importGlsk(String glskUrl) {
+        byte[] content = readUrlContent(glskUrl, String.format("Error importing GLSK file at %s", glskUrl));
+        return glskDocumentCache.get(ContentHashHelper.sha256(content),
+            () -> GlskDocumentImporters.importGlskWithCalculationDirections(new ByteArrayInputStream(content)));
+    }
+
     public Network importNetwork(String cgmUrl) {
         try {
             return importNetwork(getFilenameFromUrl(cgmUrl), cgmUrl);
@@ -78,7 +110,17 @@ public class FileImporter {
         }
     }
 
+    /**
+     * Imports the network, from the network pool when enabled and the network is in UCTE format:
+     * IIDM networks are read fast enough, and are produced once per request by the RAO.
+     */
     public Network importNetwork(String filename, String cgmUrl) {
+        if (networkPool.isEnabled() && UCTE_EXTENSION.equalsIgnoreCase(FilenameUtils.getExtension(filename))) {
+            String errorMessage = String.format("Error importing network at %s", cgmUrl);
+            byte[] content = readUrlContent(cgmUrl, errorMessage);
+            return networkPool.get(ContentHashHelper.sha256(filename, ContentHashHelper.sha256(content)),
+                () -> Network.read(filename, new ByteArrayInputStream(content)));
+        }
         try (InputStream is = openUrlStream(cgmUrl)) {
             return Network.read(filename, is);
         } catch (IOException e) {
@@ -94,6 +136,24 @@ public class FileImporter {
         }
     }
 
+    /**
+     * Reads the security verdict of a RAO result without importing it nor its CRAC.
+     *
+     * @return the security summary, or an empty value when it is disabled or cannot be derived from the file,
+     * in which case the full RAO result must be imported
+     */
+    public Optional<RaoResultSecuritySummary> importRaoResultSecuritySummary(String raoResultUrl) {
+        if (!raoResultSecurityProbe) {
+            return Optional.empty();
+        }
+        try (InputStream is = openUrlStream(raoResultUrl)) {
+            return RaoResultSecuritySummary.read(is);
+        } catch (Exception e) {
+            LOGGER.warn("Security of RAO result at {} could not be read without importing it: {}", raoResultUrl, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public CseCracCreationContext importCracCreationContext(String cracUrl, Network network) {
         try (InputStream is = openUrlStream(cracUrl)) {
             return (CseCracCreationContext) Crac.readWithContext(getFilenameFromUrl(cracUrl), is, network);
@@ -102,7 +162,14 @@ public class FileImporter {
         }
     }
 
+    /**
+     * Imports the JSON CRAC, parsed only once per network for a same URL.
+     */
     public Crac importCracFromJson(String cracUrl, Network network) {
+        return artifactCache.get(cracUrl, network, () -> readCracFromJson(cracUrl, network));
+    }
+
+    private Crac readCracFromJson(String cracUrl, Network network) {
         try (InputStream is = openUrlStream(cracUrl)) {
             return Crac.read(getFilenameFromUrl(cracUrl), is, network);
         } catch (IOException e) {
@@ -110,6 +177,14 @@ public class FileImporter {
         }
     }
 
+    private byte[] readUrlContent(String url, String errorMessage) {
+        try (InputStream is = openUrlStream(url)) {
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new CseValidInvalidDataException(errorMessage, e);
+        }
+    }
+
     private InputStream openUrlStream(String urlString) {
         try {
             if (urlWhitelistConfiguration.getWhitelist().stream().noneMatch(urlString::startsWith)) {
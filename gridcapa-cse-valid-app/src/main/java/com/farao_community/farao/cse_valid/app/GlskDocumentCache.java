@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import com.powsybl.glsk.api.GlskDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of parsed GLSK documents, looked up by the SHA-256 hash of their content.
+ * A GLSK file being usually published once a day and used by all the hourly requests of that day,
+ * it is then parsed once instead of once per request. Documents are evicted when the least recently
+ * used once the cache is full, or once their time to live has elapsed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class GlskDocumentCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GlskDocumentCache.class);
+
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public GlskDocumentCache(@Value("${cse-valid-runner.glsk-cache.max-entries:4}") int maxEntries,
+                             @Value("${cse-valid-runner.glsk-cache.time-to-live:PT36H}") Duration timeToLive,
+                             MeterRegistry meterRegistry) {
+        this(maxEntries, timeToLive, meterRegistry, Clock.systemUTC());
+    }
+
+    GlskDocumentCache(int maxEntries, Duration timeToLive, MeterRegistry meterRegistry, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.hitCounter = meterRegistry.counter("cse.valid.glsk.cache.hits");
+        this.missCounter = meterRegistry.counter("cse.valid.glsk.cache.misses");
+        this.evictionCounter = meterRegistry.counter("cse.valid.glsk.cache.evictions");
+        meterRegistry.gauge("cse.valid.glsk.cache.size", this, GlskDocumentCache::size);
+    }
+
+    /**
+     * Returns the GLSK document cached for the given content hash, parsing and caching it if absent or expired.
+     * Documents are parsed outside of the cache lock, so that a parse does not block the other lookups.
+     */
+    public GlskDocument get(String contentHash, Supplier<GlskDocument> parser) {
+        if (maxEntries <= 0) {
+            return parser.get();
+        }
+        synchronized (this) {
+            evictExpiredEntries();
+            Entry entry = entries.get(contentHash);
+            if (entry != null) {
+                hitCounter.increment();
+                LOGGER.debug("GLSK document {} found in cache", contentHash);
+                return entry.glskDocument();
+            }
+        }
+        missCounter.increment();
+        GlskDocument glskDocument = parser.get();
+        synchronized (this) {
+            entries.put(contentHash, new Entry(glskDocument, clock.instant().plus(timeToLive)));
+            while (entries.size() > maxEntries) {
+                evict(entries.keySet().iterator().next());
+            }
+        }
+        return glskDocument;
+    }
+
+    public double getHitCount() {
+        return hitCounter.count();
+    }
+
+    public double getMissCount() {
+        return missCounter.count();
+    }
+
+    public double getEvictionCount() {
+        return evictionCounter.count();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private void evictExpiredEntries() {
+        Instant now = clock.instant();
+        entries.entrySet().removeIf(entry -> {
+            boolean expired = !entry.getValue().expiration().isAfter(now);
+            if (expired) {
+                evictionCounter.increment();
+                LOGGER.debug("GLSK document {} expired", entry.getKey());
+            }
+            return expired;
+        });
+    }
+
+    private void evict(String contentHash) {
+        entries.remove(contentHash);
+        evictionCounter.increment();
+        LOGGER.debug("GLSK document {} evicted", contentHash);
+    }
+
+    private record Entry(GlskDocument glskDocument, Instant expiration) {
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import com.farao_community.farao.cse_valid.api.exception.CseValidInternalException;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.ImportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide pool of imported networks, looked up by the hash of their source file, so that reruns
+ * of a same hourly request do not parse their CGM again. Networks are kept in binary IIDM format and
+ * deserialized on each lookup: every caller gets its own network and no state can leak between computations.
+ * The least recently used networks are evicted once the serialized networks exceed the memory budget.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class NetworkPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkPool.class);
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Map<String, byte[]> serializedNetworks = new LinkedHashMap<>(16, 0.75f, true);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private long size;
+
+    public NetworkPool(@Value("${cse-valid-runner.network-pool.enabled:false}") boolean enabled,
+                       @Value("${cse-valid-runner.network-pool.max-bytes:268435456}") long maxBytes,
+                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.hitCounter = meterRegistry.counter("cse.valid.network.pool.hits");
+        this.missCounter = meterRegistry.counter("cse.valid.network.pool.misses");
+        meterRegistry.gauge("cse.valid.network.pool.bytes", this, NetworkPool::getSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a new copy of the network pooled under the given key, or imports it and pools it if absent.
+     */
+    public Network get(String key, Supplier<Network> importer) {
+        if (!enabled) {
+            return importer.get();
+        }
+        byte[] serializedNetwork;
+        synchronized (this) {
+            serializedNetwork = serializedNetworks.get(key);
+        }
+        if (serializedNetwork != null) {
+            hitCounter.increment();
+            LOGGER.debug("Network {} found in pool", key);
+            return deserialize(serializedNetwork);
+        }
+        missCounter.increment();
+        Network network = importer.get();
+        put(key, serialize(network));
+        return network;
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public double getHitCount() {
+        return hitCounter.count();
+    }
+
+    public double getMissCount() {
+        return missCounter.count();
+    }
+
+    public synchronized void clear() {
+        serializedNetworks.clear();
+        size = 0;
+    }
+
+    private synchronized void put(String key, byte[] serializedNetwork) {
+        if (serializedNetwork.length > maxBytes) {
+            LOGGER.debug("Network {} of {} bytes exceeds the pool budget, it is not pooled", key, serializedNetwork.length);
+            return;
+        }
+        byte[] previousNetwork = serializedNetworks.put(key, serializedNetwork);
+        size += serializedNetwork.length - (previousNetwork != null ? previousNetwork.length : 0);
+        Iterator<Map.Entry<String, byte[]>> iterator = serializedNetworks.entrySet().iterator();
+        while (size > maxBytes) {
+            Map.Entry<String, byte[]> eldest = iterator.next();
+            size -= eldest.getValue().length;
+            iterator.remove();
+            LOGGER.debug("Network {} evicted from pool", eldest.getKey());
+        }
+    }
+
+    private static byte[] serialize(Network network) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), baos);
+        return baos.toByteArray();
+    }
+
+    private static Network deserialize(byte[] serializedNetwork) {
+        try (InputStream is = new ByteArrayInputStream(serializedNetwork)) {
+            return NetworkSerDe.read(is, new ImportOptions().setFormat(TreeDataFormat.BIN), null);
+        } catch (IOException e) {
+            throw new CseValidInternalException("Error while reading pooled network", e);
+        }
+    }
+}
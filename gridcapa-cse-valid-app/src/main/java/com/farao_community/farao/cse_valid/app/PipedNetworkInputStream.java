@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import org.slf4j.MDC;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Input stream fed by a writer running in a dedicated thread, through a pipe of bounded size.
+ * It allows to upload a document while it is being serialized, without holding it entirely in memory.
+ * <p>
+ * A writer failure is rethrown by the reading side when reaching the end of the stream, so that a
+ * truncated document is never taken for a complete one. Closing the stream waits for the writer to end.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class PipedNetworkInputStream extends FilterInputStream {
+
+    @FunctionalInterface
+    interface StreamWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    private final FutureTask<Void> writerTask;
+    private boolean writerChecked = false;
+
+    private PipedNetworkInputStream(PipedInputStream pipedInputStream, FutureTask<Void> writerTask) {
+        super(pipedInputStream);
+        this.writerTask = writerTask;
+    }
+
+    static InputStream open(StreamWriter streamWriter, int bufferSize) throws IOException {
+        PipedInputStream pipedInputStream = new PipedInputStream(bufferSize);
+        PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        FutureTask<Void> writerTask = new FutureTask<>(() -> {
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+            try (OutputStream os = pipedOutputStream) {
+                streamWriter.write(os);
+            } finally {
+                MDC.clear();
+            }
+            return null;
+        });
+        Thread.ofPlatform().name("network-export").daemon(true).start(writerTask);
+        return new PipedNetworkInputStream(pipedInputStream, writerTask);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int result = super.read();
+        if (result == -1) {
+            checkWriter();
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int result = super.read(b, off, len);
+        if (result == -1) {
+            checkWriter();
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (!writerChecked) {
+                awaitWriterQuietly();
+            }
+        }
+    }
+
+    private void checkWriter() throws IOException {
+        if (writerChecked) {
+            return;
+        }
+        writerChecked = true;
+        try {
+            writerTask.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Error while writing network", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for network writer");
+        }
+    }
+
+    private void awaitWriterQuietly() {
+        // The reading side being closed, a running writer fails on its next write
+        writerChecked = true;
+        try {
+            writerTask.get();
+        } catch (ExecutionException e) {
+            // The upload has been aborted before the end of the stream, the writer failure is a consequence of it
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -17,10 +17,6 @@ import com.farao_community.farao.cse_valid.app.ttc_adjustment.TResultTimeseries;
 import com.farao_community.farao.cse_valid.app.ttc_adjustment.TTime;
 import com.farao_community.farao.cse_valid.app.ttc_adjustment.TTimestamp;
 import com.farao_community.farao.cse_valid.app.ttc_adjustment.TcDocumentType;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBElement;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
 import xsd.etso_code_lists.BusinessTypeList;
 import xsd.etso_code_lists.CodingSchemeType;
 import xsd.etso_code_lists.MessageTypeList;
@@ -46,10 +42,7 @@ import xsd.etso_core_cmpts.VersionType;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
-import javax.xml.namespace.QName;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.OffsetDateTime;
@@ -82,6 +75,7 @@ public class TcDocumentTypeWriter {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm'Z'");
 
     private final CseValidRequest processStartRequest;
+    private final TtcDocumentCodec ttcDocumentCodec;
     private final TcDocumentType tcDocumentType;
     private final LongIdentificationType documentIdentification;
     private final VersionType versionType;
@@ -95,8 +89,9 @@ public class TcDocumentTypeWriter {
     private final AreaType domainAreaType;
     private final TimeIntervalType timeIntervalType;
 
-    public TcDocumentTypeWriter(CseValidRequest processRequest) {
+    public TcDocumentTypeWriter(CseValidRequest processRequest, TtcDocumentCodec ttcDocumentCodec) {
         this.processStartRequest = processRequest;
+        this.ttcDocumentCodec = ttcDocumentCodec;
         this.tcDocumentType = new TcDocumentType();
         this.documentIdentification = new LongIdentificationType();
         this.versionType = new VersionType();
@@ -113,17 +108,7 @@ public class TcDocumentTypeWriter {
     }
 
     public InputStream buildTcDocumentType() {
-        StringWriter sw = new StringWriter();
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(TcDocumentType.class);
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            JAXBElement<TcDocumentType> root = new JAXBElement<>(new QName("TTC_rtevalidation_document"), TcDocumentType.class, tcDocumentType);
-            jaxbMarshaller.marshal(root, sw);
-        } catch (JAXBException e) {
-            throw new CseValidInternalException("Error while writing TTC validation result document ", e);
-        }
-        return new ByteArrayInputStream(sw.toString().getBytes());
+        return ttcDocumentCodec.writeTtcValidation(tcDocumentType);
     }
 
     private void fillHeaders() {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import com.farao_community.farao.cse_valid.api.exception.CseValidInternalException;
+import com.farao_community.farao.cse_valid.app.ttc_adjustment.ObjectFactory;
+import com.farao_community.farao.cse_valid.app.ttc_adjustment.TTimestamp;
+import com.farao_community.farao.cse_valid.app.ttc_adjustment.TcDocumentType;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.JAXBIntrospector;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Reader and writer of TTC documents. The JAXB context, which is costly to build, is created
+ * once and shared: it is thread safe, unlike the (un)marshallers, which are cheap to create
+ * from it and are therefore created for each document.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class TtcDocumentCodec {
+    private static final String TC_DOCUMENT_SCHEMA = "/xsd/tc-document.xsd";
+    private static final QName TTC_VALIDATION_ROOT = new QName("TTC_rtevalidation_document");
+    private static final String ADJUSTMENT_RESULTS_ELEMENT = "AdjustmentResults";
+    private static final String TIMESTAMP_ELEMENT = "Timestamp";
+
+    private final JAXBContext jaxbContext;
+    private final Schema schema;
+    private final XMLInputFactory xmlInputFactory;
+
+    public TtcDocumentCodec(@Value("${cse-valid-runner.ttc-document.schema-validation:false}") boolean schemaValidation) {
+        try {
+            this.jaxbContext = JAXBContext.newInstance(ObjectFactory.class);
+        } catch (JAXBException e) {
+            throw new CseValidInternalException("Error while creating TTC document JAXB context", e);
+        }
+        this.schema = schemaValidation ? loadSchema() : null;
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public TcDocumentType readTtcAdjustment(InputStream inputStream) throws JAXBException {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        unmarshaller.setSchema(schema);
+        return (TcDocumentType) JAXBIntrospector.getValue(unmarshaller.unmarshal(inputStream));
+    }
+
+    /**
+     * Streams through the adjustment results of a TTC adjustment file and binds only the timestamps,
+     * one at a time, until one matches the given filter. The rest of the document is neither read nor bound.
+     *
+     * @return the first matching timestamp, or null if there is none
+     */
+    public TTimestamp readTtcAdjustmentTimestamp(InputStream inputStream, Predicate<TTimestamp> timestampFilter) throws JAXBException, XMLStreamException {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+        try {
+            boolean inAdjustmentResults = false;
+            int event = reader.getEventType();
+            while (true) {
+                if (event == XMLStreamConstants.START_ELEMENT && ADJUSTMENT_RESULTS_ELEMENT.equals(reader.getLocalName())) {
+                    inAdjustmentResults = true;
+                } else if (event == XMLStreamConstants.END_ELEMENT && ADJUSTMENT_RESULTS_ELEMENT.equals(reader.getLocalName())) {
+                    inAdjustmentResults = false;
+                } else if (event == XMLStreamConstants.START_ELEMENT && inAdjustmentResults && TIMESTAMP_ELEMENT.equals(reader.getLocalName())) {
+                    TTimestamp timestamp = unmarshaller.unmarshal(reader, TTimestamp.class).getValue();
+                    if (timestampFilter.test(timestamp)) {
+                        return timestamp;
+                    }
+                    // The reader is already positioned on the event following the timestamp
+                    event = reader.getEventType();
+                    continue;
+                }
+                if (!reader.hasNext()) {
+                    return null;
+                }
+                event = reader.next();
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    public InputStream writeTtcValidation(TcDocumentType tcDocumentType) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            Marshaller marshaller = jaxbContext.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            marshaller.marshal(new JAXBElement<>(TTC_VALIDATION_ROOT, TcDocumentType.class, tcDocumentType), outputStream);
+        } catch (JAXBException e) {
+            throw new CseValidInternalException("Error while writing TTC validation result document ", e);
+        }
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    boolean isSchemaValidationEnabled() {
+        return schema != null;
+    }
+
+    private static Schema loadSchema() {
+        try {
+            URL schemaUrl = Objects.requireNonNull(TtcDocumentCodec.class.getResource(TC_DOCUMENT_SCHEMA));
+            return SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(schemaUrl);
+        } catch (SAXException e) {
+            throw new CseValidInternalException("Error while loading TTC document schema", e);
+        }
+    }
+}
@@ -11,15 +11,20 @@ import com.farao_community.farao.cse_valid.api.exception.CseValidInvalidDataExce
 import com.farao_community.farao.cse_valid.api.resource.ProcessType;
 import com.farao_community.farao.cse_valid.app.configuration.EicCodesConfiguration;
 import com.farao_community.farao.cse_valid.app.mapper.EicCodesMapper;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.modification.scalable.Scalable;
-import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Substation;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Vincent BOCHET {@literal <vincent.bochet at rte-france.com>}
@@ -39,7 +44,11 @@ public class ZonalScalableProvider {
     }
 
     public ZonalData<Scalable> get(String glskUrl, Network network, ProcessType processType) {
-        ZonalData<Scalable> zonalScalable = fileImporter.importGlsk(glskUrl).getZonalScalable(network);
+        return get(fileImporter.importGlsk(glskUrl), network, processType);
+    }
+
+    public ZonalData<Scalable> get(GlskDocument glskDocument, Network network, ProcessType processType) {
+        ZonalData<Scalable> zonalScalable = glskDocument.getZonalScalable(network);
         eicCodesConfiguration.getCseCodes().forEach(eic -> checkCseCountryInGlsk(zonalScalable, eic));
         stackScalableOnLoads(network, zonalScalable, processType);
         return zonalScalable;
@@ -52,46 +61,66 @@ public class ZonalScalableProvider {
     }
 
     private void stackScalableOnLoads(Network network, ZonalData<Scalable> zonalScalable, ProcessType processType) {
+        Map<String, ZoneLoads> loadsPerZone = indexLoadsPerZone(network);
         zonalScalable.getDataPerZone().forEach((eiCode, scalable) -> {
             if (processType == ProcessType.IDCC && eiCode.equals(eicCodesConfiguration.getItaly())) {
                 return;
             }
-            double sum = getZoneSumOfActiveLoads(network, eiCode);
+            ZoneLoads zoneLoads = loadsPerZone.get(eiCode);
             // No need to go further if a country has no active load
-            if (sum == 0.0) {
+            if (zoneLoads == null || zoneLoads.getSumOfActiveLoads() == 0.0) {
                 return;
             }
-            Scalable stackedScalable = getStackedScalable(eiCode, scalable, network, sum);
+            Scalable stackedScalable = Scalable.stack(scalable, zoneLoads.getProportionalScalable());
             zonalScalable.getDataPerZone().put(eiCode, stackedScalable);
         });
     }
 
-    private double getZoneSumOfActiveLoads(Network network, String eiCode) {
-        return network.getLoadStream()
-            .filter(load -> isLoadCorrespondingToTheCountry(load, eiCode))
-            .map(Load::getP0)
-            .reduce(0., Double::sum);
+    /**
+     * Groups the loads of the network per zone in a single pass over the loads, keeping their order in the network.
+     */
+    private Map<String, ZoneLoads> indexLoadsPerZone(Network network) {
+        Map<Country, String> eicPerCountry = new EnumMap<>(Country.class);
+        Map<String, ZoneLoads> loadsPerZone = new HashMap<>();
+        network.getLoads().forEach(load -> load.getTerminal().getVoltageLevel().getSubstation()
+            .flatMap(Substation::getCountry)
+            .map(country -> eicPerCountry.computeIfAbsent(country, eicCodesMapper::mapToEic))
+            .ifPresent(eiCode -> loadsPerZone.computeIfAbsent(eiCode, code -> new ZoneLoads()).add(load.getId(), load.getP0())));
+        return loadsPerZone;
     }
 
-    private Scalable getStackedScalable(String eiCode, Scalable scalable, Network network, double sum) {
-        List<Double> percentageList = new ArrayList<>();
-        List<Scalable> scalableList = new ArrayList<>();
+    private static final class ZoneLoads {
+        private String[] loadIds = new String[16];
+        private double[] activeLoads = new double[16];
+        private int size;
 
-        network.getLoadStream()
-            .filter(load -> isLoadCorrespondingToTheCountry(load, eiCode))
-            .forEach(load -> {
-                percentageList.add((load.getP0() / sum) * 100);
-                scalableList.add(Scalable.onLoad(load.getId()));
-            });
+        private void add(String loadId, double activeLoad) {
+            if (size == loadIds.length) {
+                loadIds = Arrays.copyOf(loadIds, 2 * size);
+                activeLoads = Arrays.copyOf(activeLoads, 2 * size);
+            }
+            loadIds[size] = loadId;
+            activeLoads[size] = activeLoad;
+            size++;
+        }
 
-        return Scalable.stack(scalable, Scalable.proportional(percentageList, scalableList));
-    }
+        private double getSumOfActiveLoads() {
+            double sum = 0.;
+            for (int i = 0; i < size; i++) {
+                sum += activeLoads[i];
+            }
+            return sum;
+        }
 
-    private boolean isLoadCorrespondingToTheCountry(Load load, String eiCode) {
-        return load.getTerminal().getVoltageLevel().getSubstation()
-            .flatMap(Substation::getCountry)
-            .map(eicCodesMapper::mapToEic)
-            .map(eiCode::equals)
-            .orElse(false);
+        private Scalable getProportionalScalable() {
+            double sum = getSumOfActiveLoads();
+            List<Double> percentageList = new ArrayList<>(size);
+            List<Scalable> scalableList = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                percentageList.add((activeLoads[i] / sum) * 100);
+                scalableList.add(Scalable.onLoad(loadIds[i]));
+            }
+            return Scalable.proportional(percentageList, scalableList);
+        }
     }
 }
@@ -7,6 +7,8 @@
 package com.farao_community.farao.cse_valid.app.configuration;
 
 import com.farao_community.farao.cse_valid.app.CseValidListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.AsyncAmqpTemplate;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
@@ -20,6 +22,7 @@ import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.util.Optional;
 
@@ -28,6 +31,8 @@ import java.util.Optional;
  */
 @Configuration
 public class AmqpMessagesBeans {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AmqpMessagesBeans.class);
+
     private final AmqpMessagesConfiguration config;
 
     public AmqpMessagesBeans(final AmqpMessagesConfiguration config) {
@@ -64,9 +69,34 @@ public class AmqpMessagesBeans {
         simpleMessageListenerContainer.setConnectionFactory(connectionFactory);
         simpleMessageListenerContainer.setQueues(cseValidRequestQueue);
         simpleMessageListenerContainer.setMessageListener(listener);
+        int maxConsumers = capConsumersToMemoryBudget(config.getMaxConcurrentConsumers(), config.getMemoryPerRequest().toBytes(), Runtime.getRuntime().maxMemory());
+        int consumers = Math.min(Math.max(1, config.getConcurrentConsumers()), maxConsumers);
+        LOGGER.info("Request listener consumes up to {} requests concurrently ({} initial consumers)", maxConsumers, consumers);
+        simpleMessageListenerContainer.setConcurrentConsumers(consumers);
+        simpleMessageListenerContainer.setMaxConcurrentConsumers(maxConsumers);
+        // Each consumer only holds the request it is computing, pending ones stay in the queue for other pods
+        simpleMessageListenerContainer.setPrefetchCount(Math.max(1, config.getPrefetchCount()));
+        if (config.isVirtualThreads()) {
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("cse-valid-listener-");
+            taskExecutor.setVirtualThreads(true);
+            simpleMessageListenerContainer.setTaskExecutor(taskExecutor);
+        }
         return simpleMessageListenerContainer;
     }
 
+    /**
+     * Caps the number of concurrent consumers so that the requests they compute, each holding its own
+     * network, fit in the maximum heap. A memory per request of 0 disables the cap.
+     */
+    static int capConsumersToMemoryBudget(int maxConsumers, long memoryPerRequest, long maxHeap) {
+        int cappedMaxConsumers = Math.max(1, maxConsumers);
+        if (memoryPerRequest > 0) {
+            long affordableConsumers = maxHeap / memoryPerRequest;
+            cappedMaxConsumers = (int) Math.max(1, Math.min(cappedMaxConsumers, affordableConsumers));
+        }
+        return cappedMaxConsumers;
+    }
+
     @Bean
     public FanoutExchange cseValidResponseExchange() {
         return new FanoutExchange(config.getResponseDestination());
@@ -8,6 +8,7 @@ package com.farao_community.farao.cse_valid.app.configuration;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -25,6 +26,16 @@ public class AmqpMessagesConfiguration {
     private String requestRoutingKey;
     @Value("${cse-valid-runner.async-time-out}")
     private long asyncTimeOut;
+    @Value("${cse-valid-runner.listener.concurrent-consumers:1}")
+    private int concurrentConsumers;
+    @Value("${cse-valid-runner.listener.max-concurrent-consumers:1}")
+    private int maxConcurrentConsumers;
+    @Value("${cse-valid-runner.listener.prefetch:1}")
+    private int prefetchCount;
+    @Value("${cse-valid-runner.listener.virtual-threads:${spring.threads.virtual.enabled:false}}")
+    private boolean virtualThreads;
+    @Value("${cse-valid-runner.listener.memory-per-request:0}")
+    private DataSize memoryPerRequest;
 
     public String cseValidResponseExpiration() {
         return responseExpiration;
@@ -45,4 +56,27 @@ public class AmqpMessagesConfiguration {
     public long getAsyncTimeOut() {
         return asyncTimeOut;
     }
+
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    public int getMaxConcurrentConsumers() {
+        return maxConcurrentConsumers;
+    }
+
+    public int getPrefetchCount() {
+        return prefetchCount;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Heap memory a single in-flight request is expected to use, 0 meaning no memory budget.
+     */
+    public DataSize getMemoryPerRequest() {
+        return memoryPerRequest;
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("cse-valid-runner.dichotomy")
+public class DichotomyConfiguration {
+    /**
+     * Number of dichotomy steps validated concurrently at each iteration.
+     * A value of 1 keeps the classical sequential bisection.
+     */
+    private final int parallelism;
+    /**
+     * Strategy choosing the next step of sequential dichotomies.
+     */
+    private final DichotomyIndexStrategy indexStrategy;
+
+    public DichotomyConfiguration(@DefaultValue("1") int parallelism,
+                                  @DefaultValue("RANGE_DIVISION") DichotomyIndexStrategy indexStrategy) {
+        this.parallelism = Math.max(1, parallelism);
+        this.indexStrategy = indexStrategy;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public DichotomyIndexStrategy getIndexStrategy() {
+        return indexStrategy;
+    }
+
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+}
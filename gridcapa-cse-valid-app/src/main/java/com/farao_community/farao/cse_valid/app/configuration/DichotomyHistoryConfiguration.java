@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("cse-valid-runner.dichotomy.history")
+public class DichotomyHistoryConfiguration {
+    /**
+     * Whether dichotomies start around the secure exchange found for the neighbouring timestamps.
+     */
+    private final boolean enabled;
+    /**
+     * Directory in which secure exchanges are persisted, kept in memory only when empty.
+     */
+    private final String directory;
+    /**
+     * Maximum distance to the computed timestamp of the secure exchanges used to start the dichotomy.
+     */
+    private final Duration window;
+    /**
+     * Duration after which recorded secure exchanges are forgotten.
+     */
+    private final Duration retention;
+    /**
+     * Half width in MW of the initial interval around the expected secure shift.
+     */
+    private final double margin;
+
+    public DichotomyHistoryConfiguration(@DefaultValue("false") boolean enabled,
+                                         @DefaultValue("") String directory,
+                                         @DefaultValue("2h") Duration window,
+                                         @DefaultValue("7d") Duration retention,
+                                         @DefaultValue("500") double margin) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.window = window;
+        this.retention = retention;
+        this.margin = Math.max(1, margin);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public double getMargin() {
+        return margin;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.configuration;
+
+/**
+ * Ways of choosing the next dichotomy step once both a valid and an invalid step are known.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public enum DichotomyIndexStrategy {
+    /**
+     * The range between the highest valid step and the lowest invalid step is divided by two.
+     */
+    RANGE_DIVISION,
+    /**
+     * The secure limit is predicted by interpolating the worst flow margins of the RAO results. The margins
+     * are read by the RAO result security probe, without which the range is divided by two.
+     */
+    MARGIN_INTERPOLATION
+}
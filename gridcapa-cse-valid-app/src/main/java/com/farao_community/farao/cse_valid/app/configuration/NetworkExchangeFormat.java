@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.configuration;
+
+import com.powsybl.commons.io.TreeDataFormat;
+
+/**
+ * IIDM formats in which scaled networks can be sent to the RAO runner.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public enum NetworkExchangeFormat {
+    XIIDM("xiidm", TreeDataFormat.XML),
+    JIIDM("jiidm", TreeDataFormat.JSON),
+    BIIDM("biidm", TreeDataFormat.BIN);
+
+    private final String extension;
+    private final TreeDataFormat treeDataFormat;
+
+    NetworkExchangeFormat(String extension, TreeDataFormat treeDataFormat) {
+        this.extension = extension;
+        this.treeDataFormat = treeDataFormat;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public TreeDataFormat getTreeDataFormat() {
+        return treeDataFormat;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("cse-valid-runner.network-export")
+public class NetworkExportConfiguration {
+    /**
+     * IIDM format in which networks are uploaded.
+     */
+    private final NetworkExchangeFormat format;
+    /**
+     * Whether networks are uploaded while being serialized, through a bounded pipe,
+     * instead of being fully serialized in memory before the upload.
+     */
+    private final boolean streaming;
+    /**
+     * Size in bytes of the pipe between the network serializer and the upload.
+     */
+    private final int bufferSize;
+    /**
+     * Whether uploaded networks are gzip compressed.
+     */
+    private final boolean gzip;
+
+    public NetworkExportConfiguration(@DefaultValue("XIIDM") NetworkExchangeFormat format,
+                                      @DefaultValue("true") boolean streaming,
+                                      @DefaultValue("1048576") int bufferSize,
+                                      @DefaultValue("false") boolean gzip) {
+        this.format = format;
+        this.streaming = streaming;
+        this.bufferSize = Math.max(1024, bufferSize);
+        this.gzip = gzip;
+    }
+
+    public NetworkExchangeFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Extension of the uploaded network files, without leading dot.
+     */
+    public String getFileExtension() {
+        return gzip ? format.getExtension() + ".gz" : format.getExtension();
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+}
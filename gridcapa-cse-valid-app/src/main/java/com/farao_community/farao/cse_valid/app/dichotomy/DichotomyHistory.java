@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.cse_valid.api.resource.ProcessType;
+import com.farao_community.farao.cse_valid.app.configuration.DichotomyHistoryConfiguration;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+
+/**
+ * Secure exchanges found by the previous dichotomies, per process type, direction and timestamp,
+ * used to start the dichotomies of the neighbouring timestamps around their expected result.
+ * An exchange is the absolute value on the border reached by the highest secure shift, so that it
+ * can be compared between timestamps whose networks do not start from the same exchange.
+ * Secure exchanges are kept in memory, and persisted as one JSON file per process type and direction
+ * when a directory is configured, so that they survive restarts.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class DichotomyHistory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DichotomyHistory.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Double>> SECURE_EXCHANGES_TYPE = new TypeReference<>() { };
+
+    public enum Direction {
+        FULL_IMPORT,
+        EXPORT_CORNER_FRANCE_IMPORTING,
+        EXPORT_CORNER_FRANCE_EXPORTING
+    }
+
+    private final DichotomyHistoryConfiguration configuration;
+    private final Map<String, NavigableMap<Instant, Double>> secureExchanges = new HashMap<>();
+
+    public DichotomyHistory(DichotomyHistoryConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public boolean isEnabled() {
+        return configuration.isEnabled();
+    }
+
+    public synchronized void record(ProcessType processType, Direction direction, OffsetDateTime time, double secureExchange) {
+        if (!isEnabled()) {
+            return;
+        }
+        String key = getKey(processType, direction);
+        NavigableMap<Instant, Double> exchanges = getSecureExchanges(key);
+        Instant instant = time.toInstant();
+        exchanges.put(instant, secureExchange);
+        exchanges.headMap(exchanges.lastKey().minus(configuration.getRetention()), false).clear();
+        persist(key, exchanges);
+    }
+
+    /**
+     * Returns the secure exchange of the closest timestamps within the configured window, averaged when
+     * a timestamp before and a timestamp after are equally close, or an empty value when there is none.
+     */
+    public synchronized OptionalDouble findNeighbourSecureExchange(ProcessType processType, Direction direction, OffsetDateTime time) {
+        if (!isEnabled()) {
+            return OptionalDouble.empty();
+        }
+        NavigableMap<Instant, Double> exchanges = getSecureExchanges(getKey(processType, direction));
+        Instant instant = time.toInstant();
+        Map.Entry<Instant, Double> previous = exchanges.floorEntry(instant);
+        Map.Entry<Instant, Double> next = exchanges.ceilingEntry(instant);
+        Duration toPrevious = previous != null ? Duration.between(previous.getKey(), instant) : null;
+        Duration toNext = next != null ? Duration.between(instant, next.getKey()) : null;
+        boolean previousInWindow = toPrevious != null && toPrevious.compareTo(configuration.getWindow()) <= 0;
+        boolean nextInWindow = toNext != null && toNext.compareTo(configuration.getWindow()) <= 0;
+        if (previousInWindow && nextInWindow) {
+            int comparison = toPrevious.compareTo(toNext);
+            if (comparison == 0) {
+                return OptionalDouble.of((previous.getValue() + next.getValue()) / 2);
+            }
+            return OptionalDouble.of(comparison < 0 ? previous.getValue() : next.getValue());
+        }
+        if (previousInWindow) {
+            return OptionalDouble.of(previous.getValue());
+        }
+        return nextInWindow ? OptionalDouble.of(next.getValue()) : OptionalDouble.empty();
+    }
+
+    private static String getKey(ProcessType processType, Direction direction) {
+        return processType + "-" + direction;
+    }
+
+    private NavigableMap<Instant, Double> getSecureExchanges(String key) {
+        return secureExchanges.computeIfAbsent(key, this::load);
+    }
+
+    private NavigableMap<Instant, Double> load(String key) {
+        NavigableMap<Instant, Double> exchanges = new TreeMap<>();
+        Path path = getPath(key);
+        if (path != null && Files.exists(path)) {
+            try {
+                OBJECT_MAPPER.readValue(path.toFile(), SECURE_EXCHANGES_TYPE).forEach((instant, exchange) -> exchanges.put(Instant.parse(instant), exchange));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Dichotomy history {} could not be read, it is ignored: {}", path, e.getMessage());
+            }
+        }
+        return exchanges;
+    }
+
+    private void persist(String key, NavigableMap<Instant, Double> exchanges) {
+        Path path = getPath(key);
+        if (path == null) {
+            return;
+        }
+        Map<String, Double> serializedExchanges = new TreeMap<>();
+        exchanges.forEach((instant, exchange) -> serializedExchanges.put(instant.toString(), exchange));
+        try {
+            Files.createDirectories(path.getParent());
+            Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+            OBJECT_MAPPER.writeValue(temporaryPath.toFile(), serializedExchanges);
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Dichotomy history {} could not be written: {}", path, e.getMessage());
+        }
+    }
+
+    private Path getPath(String key) {
+        String directory = configuration.getDirectory();
+        return directory == null || directory.isBlank() ? null : Path.of(directory, key + ".json");
+    }
+}
@@ -10,6 +10,7 @@ import com.farao_community.farao.cse_valid.api.resource.CseValidRequest;
 import com.farao_community.farao.cse_valid.api.resource.ProcessType;
 import com.farao_community.farao.cse_valid.app.FileExporter;
 import com.farao_community.farao.cse_valid.app.FileImporter;
+import com.farao_community.farao.cse_valid.app.rao.LazyRaoResult;
 import com.farao_community.farao.dichotomy.api.NetworkValidator;
 import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
@@ -24,6 +25,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -42,7 +45,7 @@ public class DichotomyNetworkValidator implements NetworkValidator<RaoSuccessRes
     private final RaoRunnerClient raoRunnerClient;
     private final FileImporter fileImporter;
     private final FileExporter fileExporter;
-    private int variantCounter = 0;
+    private final AtomicInteger variantCounter = new AtomicInteger();
 
     public DichotomyNetworkValidator(CseValidRequest cseValidRequest,
                                      String jsonCracUrl,
@@ -64,8 +67,7 @@ public class DichotomyNetworkValidator implements NetworkValidator<RaoSuccessRes
     @Override
     public DichotomyStepResult<RaoSuccessResponse> validateNetwork(Network network, DichotomyStepResult<RaoSuccessResponse> dichotomyStepResult) throws ValidationException {
         String scaledNetworkDirPath = generateScaledNetworkDirPath(network);
-        String scaledNetworkName = network.getNameOrId() + ".xiidm";
-        String networkPresignedUrl = fileExporter.saveNetworkInArtifact(network, scaledNetworkDirPath + scaledNetworkName, "", processTargetDateTime, processType);
+        String networkPresignedUrl = fileExporter.saveNetworkInArtifact(network, scaledNetworkDirPath + network.getNameOrId(), "", processTargetDateTime, processType);
         RaoRequest raoRequest = buildRaoRequest(networkPresignedUrl, "CSE/VALID/" + scaledNetworkDirPath);
         try {
             LOGGER.info("RAO request sent: {}", raoRequest);
@@ -77,13 +79,25 @@ public class DichotomyNetworkValidator implements NetworkValidator<RaoSuccessRes
             }
 
             RaoSuccessResponse raoResponse = (RaoSuccessResponse) abstractRaoResponse;
-            RaoResult raoResult = fileImporter.importRaoResult(raoResponse.getRaoResultFileUrl(), fileImporter.importCracFromJson(raoResponse.getCracFileUrl(), network));
+            RaoResult raoResult = importRaoResult(raoResponse, network);
             return DichotomyStepResult.fromNetworkValidationResult(raoResult, raoResponse);
         } catch (RuntimeException e) {
             throw new ValidationException("RAO run failed", e);
         }
     }
 
+    /**
+     * Only the security verdict of a step is needed to drive the dichotomy: the RAO result is then imported,
+     * with its CRAC, only if another information is requested on it. The steps share the same CRAC URL and network,
+     * so the CRAC is parsed once and then found in the artifact cache of the file importer.
+     */
+    private RaoResult importRaoResult(RaoSuccessResponse raoResponse, Network network) {
+        Supplier<RaoResult> raoResultImporter = () -> fileImporter.importRaoResult(raoResponse.getRaoResultFileUrl(), fileImporter.importCracFromJson(raoResponse.getCracFileUrl(), network));
+        return fileImporter.importRaoResultSecuritySummary(raoResponse.getRaoResultFileUrl())
+                .map(securitySummary -> LazyRaoResult.create(securitySummary, raoResultImporter))
+                .orElseGet(raoResultImporter);
+    }
+
     private RaoRequest buildRaoRequest(String networkPresignedUrl, String scaledNetworkDirPath) {
         return new RaoRequest.RaoRequestBuilder()
                 .withId(requestId)
@@ -98,6 +112,6 @@ public class DichotomyNetworkValidator implements NetworkValidator<RaoSuccessRes
     private String generateScaledNetworkDirPath(Network network) {
         String basePath = fileExporter.makeDestinationMinioPath(processTargetDateTime, processType, FileExporter.FileKind.ARTIFACTS);
         String variantName = network.getVariantManager().getWorkingVariantId();
-        return String.format("%s/%s-%s/", basePath, ++variantCounter, variantName);
+        return String.format("%s/%s-%s/", basePath, variantCounter.incrementAndGet(), variantName);
     }
 }
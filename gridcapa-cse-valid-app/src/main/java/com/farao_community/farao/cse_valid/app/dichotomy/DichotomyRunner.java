@@ -7,23 +7,35 @@
 package com.farao_community.farao.cse_valid.app.dichotomy;
 
 import com.farao_community.farao.cse_valid.api.resource.CseValidRequest;
+import com.farao_community.farao.cse_valid.app.ComputationExecutors;
 import com.farao_community.farao.cse_valid.app.CseValidNetworkShifterProvider;
 import com.farao_community.farao.cse_valid.app.FileExporter;
 import com.farao_community.farao.cse_valid.app.FileImporter;
 import com.farao_community.farao.cse_valid.app.TTimestampWrapper;
+import com.farao_community.farao.cse_valid.app.configuration.DichotomyConfiguration;
+import com.farao_community.farao.cse_valid.app.configuration.DichotomyHistoryConfiguration;
+import com.farao_community.farao.cse_valid.app.configuration.DichotomyIndexStrategy;
 import com.farao_community.farao.cse_valid.app.helper.NetPositionHelper;
+import com.farao_community.farao.cse_valid.app.rao.LazyRaoResult;
 import com.farao_community.farao.dichotomy.api.DichotomyEngine;
 import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.api.NetworkValidator;
 import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
 import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
+import java.util.OptionalDouble;
+import java.util.concurrent.ExecutorService;
+
+import static com.farao_community.farao.cse_valid.app.Constants.INITIAL_STATE_VARIANT_ID;
+
 /**
  * @author Oualid Aloui {@literal <oualid.aloui at rte-france.com>}
  */
@@ -31,6 +43,7 @@ import org.springframework.stereotype.Service;
 public class DichotomyRunner {
     private static final RangeDivisionIndexStrategy<RaoSuccessResponse> INDEX_STRATEGY_CONFIGURATION = new RangeDivisionIndexStrategy<>(false);
     private static final String DICHOTOMY_PARAMETERS_MSG = "Minimum dichotomy index: {}, Maximum dichotomy index: {}, Dichotomy precision: {}";
+    private static final String DICHOTOMY_WARM_START_MSG = "Dichotomy starts around index {}, matching the exchange of {} MW found for neighbouring timestamps";
     private static final double DEFAULT_DICHOTOMY_PRECISION = 50;
     private static final int DEFAULT_MIN_INDEX = 0;
     private static final int DEFAULT_MAX_INDEX = 0;
@@ -40,17 +53,29 @@ public class DichotomyRunner {
     private final RaoRunnerClient raoRunnerClient;
     private final Logger businessLogger;
     private final CseValidNetworkShifterProvider cseValidNetworkShifterProvider;
+    private final DichotomyConfiguration dichotomyConfiguration;
+    private final ComputationExecutors computationExecutors;
+    private final DichotomyHistory dichotomyHistory;
+    private final DichotomyHistoryConfiguration dichotomyHistoryConfiguration;
 
     public DichotomyRunner(FileImporter fileImporter,
                            FileExporter fileExporter,
                            RaoRunnerClient raoRunnerClient,
                            Logger businessLogger,
-                           CseValidNetworkShifterProvider cseValidNetworkShifterProvider) {
+                           CseValidNetworkShifterProvider cseValidNetworkShifterProvider,
+                           DichotomyConfiguration dichotomyConfiguration,
+                           ComputationExecutors computationExecutors,
+                           DichotomyHistory dichotomyHistory,
+                           DichotomyHistoryConfiguration dichotomyHistoryConfiguration) {
         this.fileImporter = fileImporter;
         this.fileExporter = fileExporter;
         this.raoRunnerClient = raoRunnerClient;
         this.businessLogger = businessLogger;
         this.cseValidNetworkShifterProvider = cseValidNetworkShifterProvider;
+        this.dichotomyConfiguration = dichotomyConfiguration;
+        this.computationExecutors = computationExecutors;
+        this.dichotomyHistory = dichotomyHistory;
+        this.dichotomyHistoryConfiguration = dichotomyHistoryConfiguration;
     }
 
     public DichotomyResult<RaoSuccessResponse> runDichotomy(TTimestampWrapper timestampWrapper,
@@ -62,30 +87,98 @@ public class DichotomyRunner {
         final double minValue;
         final double maxValue;
         final NetworkShifter networkShifter;
+        final DichotomyHistory.Direction direction;
+        final ExchangeScale exchangeScale;
         if (isForExportCorner) {
-            Network initialNetwork = fileImporter.importNetwork(cseValidRequest.getCgm().getUrl());
-            double franceImportBeforeShifting = NetPositionHelper.computeFranceImportFromItaly(initialNetwork);
+            double franceImportBeforeShifting = computeFranceImportBeforeShifting(cseValidRequest, network);
             double franceImportAfterShifting = NetPositionHelper.computeFranceImportFromItaly(network);
             minValue = timestampWrapper.isFranceImportingFromItaly()
                     ? franceImportBeforeShifting - franceImportAfterShifting
                     : franceImportAfterShifting - franceImportBeforeShifting;
             maxValue = DEFAULT_MAX_INDEX;
             networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithItalyFrance(timestampWrapper, network, cseValidRequest.getGlsk().getUrl(), cseValidRequest.getProcessType());
+            direction = timestampWrapper.isFranceImportingFromItaly()
+                    ? DichotomyHistory.Direction.EXPORT_CORNER_FRANCE_IMPORTING
+                    : DichotomyHistory.Direction.EXPORT_CORNER_FRANCE_EXPORTING;
+            // The minimum index brings the France import from Italy back to its value before shifting
+            exchangeScale = new ExchangeScale(franceImportAfterShifting, timestampWrapper.isFranceImportingFromItaly() ? 1 : -1);
         } else {
             minValue = DEFAULT_MIN_INDEX;
             maxValue = (double) timestampWrapper.getMniiIntValue() - (timestampWrapper.getMibniiIntValue() - timestampWrapper.getAntcfinalIntValue());
             networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, cseValidRequest.getGlsk().getUrl(), cseValidRequest.getProcessType());
+            direction = DichotomyHistory.Direction.FULL_IMPORT;
+            // The network has been shifted beforehand to an Italian import of MiBNII - ANTCFinal
+            exchangeScale = new ExchangeScale((double) timestampWrapper.getMibniiIntValue() - timestampWrapper.getAntcfinalIntValue(), 1);
         }
         businessLogger.info(DICHOTOMY_PARAMETERS_MSG, (int) minValue, (int) maxValue, (int) DEFAULT_DICHOTOMY_PRECISION);
         NetworkValidator<RaoSuccessResponse> networkValidator = getNetworkValidator(cseValidRequest, jsonCracUrl, raoParametersURL);
-        DichotomyEngine<RaoSuccessResponse> engine = getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator);
-        return engine.run(network);
+        DichotomyResult<RaoSuccessResponse> dichotomyResult;
+        if (dichotomyConfiguration.isParallel()) {
+            dichotomyResult = runParallelDichotomy(minValue, maxValue, networkShifter, networkValidator, network);
+        } else {
+            IndexStrategy<RaoSuccessResponse> indexStrategy = getIndexStrategy(cseValidRequest, direction, exchangeScale);
+            DichotomyEngine<RaoSuccessResponse> engine = getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator, indexStrategy);
+            dichotomyResult = engine.run(network);
+        }
+        if (dichotomyResult != null && dichotomyResult.hasValidStep()) {
+            dichotomyHistory.record(cseValidRequest.getProcessType(), direction, cseValidRequest.getTime(), exchangeScale.toExchange(dichotomyResult.getHighestValidStepValue()));
+        }
+        return dichotomyResult;
+    }
+
+    private IndexStrategy<RaoSuccessResponse> getIndexStrategy(CseValidRequest cseValidRequest, DichotomyHistory.Direction direction, ExchangeScale exchangeScale) {
+        IndexStrategy<RaoSuccessResponse> indexStrategy = dichotomyConfiguration.getIndexStrategy() == DichotomyIndexStrategy.MARGIN_INTERPOLATION
+                ? new MarginInterpolationIndexStrategy<>(stepResult -> LazyRaoResult.getWorstFlowMarginInMegawatt(stepResult.getRaoResult()))
+                : INDEX_STRATEGY_CONFIGURATION;
+        OptionalDouble neighbourSecureExchange = dichotomyHistory.findNeighbourSecureExchange(cseValidRequest.getProcessType(), direction, cseValidRequest.getTime());
+        if (neighbourSecureExchange.isEmpty()) {
+            return indexStrategy;
+        }
+        double expectedSecureShift = exchangeScale.toIndex(neighbourSecureExchange.getAsDouble());
+        businessLogger.info(DICHOTOMY_WARM_START_MSG, (int) expectedSecureShift, (int) neighbourSecureExchange.getAsDouble());
+        return new WarmStartIndexStrategy<>(expectedSecureShift, dichotomyHistoryConfiguration.getMargin(), indexStrategy);
+    }
+
+    private double computeFranceImportBeforeShifting(CseValidRequest cseValidRequest, Network network) {
+        VariantManager variantManager = network.getVariantManager();
+        if (variantManager.getVariantIds().contains(INITIAL_STATE_VARIANT_ID)) {
+            String workingVariantId = variantManager.getWorkingVariantId();
+            variantManager.setWorkingVariant(INITIAL_STATE_VARIANT_ID);
+            try {
+                return NetPositionHelper.computeFranceImportFromItaly(network);
+            } finally {
+                variantManager.setWorkingVariant(workingVariantId);
+                variantManager.removeVariant(INITIAL_STATE_VARIANT_ID);
+            }
+        }
+        Network initialNetwork = fileImporter.importNetwork(cseValidRequest.getCgm().getUrl());
+        return NetPositionHelper.computeFranceImportFromItaly(initialNetwork);
     }
 
-    DichotomyEngine<RaoSuccessResponse> getDichotomyEngine(double minValue, double maxValue, NetworkShifter networkShifter, NetworkValidator<RaoSuccessResponse> networkValidator) {
+    private DichotomyResult<RaoSuccessResponse> runParallelDichotomy(double minValue, double maxValue, NetworkShifter networkShifter, NetworkValidator<RaoSuccessResponse> networkValidator, Network network) {
+        int parallelism = dichotomyConfiguration.getParallelism();
+        ExecutorService executorService = computationExecutors.newFixedExecutor("dichotomy-step-", parallelism);
+        try {
+            return getParallelDichotomyEngine(minValue, maxValue, networkShifter, networkValidator, executorService).run(network);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    ParallelDichotomyEngine<RaoSuccessResponse> getParallelDichotomyEngine(double minValue, double maxValue, NetworkShifter networkShifter, NetworkValidator<RaoSuccessResponse> networkValidator, ExecutorService executorService) {
+        return new ParallelDichotomyEngine<>(
+                new Index<>(minValue, maxValue, DEFAULT_DICHOTOMY_PRECISION),
+                INDEX_STRATEGY_CONFIGURATION,
+                networkShifter,
+                networkValidator,
+                dichotomyConfiguration.getParallelism(),
+                executorService);
+    }
+
+    DichotomyEngine<RaoSuccessResponse> getDichotomyEngine(double minValue, double maxValue, NetworkShifter networkShifter, NetworkValidator<RaoSuccessResponse> networkValidator, IndexStrategy<RaoSuccessResponse> indexStrategy) {
         return DichotomyEngine.<RaoSuccessResponse>builder()
                 .withIndex(new Index<>(minValue, maxValue, DEFAULT_DICHOTOMY_PRECISION))
-                .withIndexStrategy(INDEX_STRATEGY_CONFIGURATION)
+                .withIndexStrategy(indexStrategy)
                 .withNetworkShifter(networkShifter)
                 .withNetworkValidator(networkValidator)
                 .build();
@@ -100,4 +193,19 @@ public class DichotomyRunner {
                 fileImporter,
                 fileExporter);
     }
+
+    /**
+     * Dichotomy indexes are shifts relative to the network of the computed timestamp, whose baseline differs from
+     * one timestamp to another. The history thus records the exchange on the border reached by the secure shift:
+     * the Italian import for full import and the France import from Italy for export corner.
+     */
+    private record ExchangeScale(double exchangeAtIndexZero, double exchangePerIndex) {
+        double toExchange(double index) {
+            return exchangeAtIndexZero + exchangePerIndex * index;
+        }
+
+        double toIndex(double exchange) {
+            return (exchange - exchangeAtIndexZero) / exchangePerIndex;
+        }
+    }
 }
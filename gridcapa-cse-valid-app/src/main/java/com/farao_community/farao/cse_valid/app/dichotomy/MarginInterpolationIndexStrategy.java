@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.OptionalDouble;
+import java.util.function.Function;
+
+/**
+ * Index strategy predicting the secure limit from the worst margins of the RAO results, the worst
+ * margin being roughly linear in the shift. The limit is predicted by the secant of the two last
+ * steps, or by linear interpolation between the highest valid step and the lowest invalid step
+ * (regula falsi) when the secant falls outside of them. Predictions are kept at half the precision
+ * away from the known steps, so that an accurate prediction is followed by a step on the other side
+ * of the secure limit.
+ * <p>
+ * The range is divided by two instead when a margin is missing, when margins are inconsistent with
+ * the validity of the steps, or when several predictions in a row did not halve the range.
+ * The bounds of the index are tested first, as {@link RangeDivisionIndexStrategy} does.
+ * Instances keep track of the last steps and must not be shared between dichotomies.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class MarginInterpolationIndexStrategy<I> implements IndexStrategy<I> {
+    private static final int MAX_SLOW_STEPS = 3;
+
+    private final Function<DichotomyStepResult<I>, OptionalDouble> worstMargin;
+    private final RangeDivisionIndexStrategy<I> rangeDivisionIndexStrategy = new RangeDivisionIndexStrategy<>(false);
+    private double previousStepValue = Double.NaN;
+    private double previousStepMargin = Double.NaN;
+    private double lastStepValue = Double.NaN;
+    private double lastStepMargin = Double.NaN;
+    private double nextStepValue = Double.NaN;
+    private double previousRange = Double.NaN;
+    private int slowSteps;
+
+    public MarginInterpolationIndexStrategy(Function<DichotomyStepResult<I>, OptionalDouble> worstMargin) {
+        this.worstMargin = worstMargin;
+    }
+
+    @Override
+    public double nextValue(Index<I> index) {
+        Pair<Double, DichotomyStepResult<I>> higherValidStep = index.higherValidStep();
+        Pair<Double, DichotomyStepResult<I>> lowestInvalidStep = index.lowestInvalidStep();
+        if (higherValidStep == null || lowestInvalidStep == null) {
+            return rangeDivisionIndexStrategy.nextValue(index);
+        }
+        double validValue = higherValidStep.getLeft();
+        double invalidValue = lowestInvalidStep.getLeft();
+        double validMargin = getWorstMargin(higherValidStep.getRight());
+        double invalidMargin = getWorstMargin(lowestInvalidStep.getRight());
+        recordLastSteps(validValue, validMargin, invalidValue, invalidMargin);
+
+        double range = invalidValue - validValue;
+        slowSteps = range > previousRange / 2 ? slowSteps + 1 : 0;
+        previousRange = range;
+        if (slowSteps >= MAX_SLOW_STEPS) {
+            slowSteps = 0;
+            return setNextStepValue((validValue + invalidValue) / 2);
+        }
+        // Negated comparisons also reject missing margins
+        if (!(validMargin >= 0) || !(invalidMargin < 0)) {
+            return setNextStepValue((validValue + invalidValue) / 2);
+        }
+        double predictedValue = lastStepValue - lastStepMargin * (lastStepValue - previousStepValue) / (lastStepMargin - previousStepMargin);
+        if (!(predictedValue > validValue && predictedValue < invalidValue)) {
+            predictedValue = validValue + validMargin * range / (validMargin - invalidMargin);
+        }
+        double offset = Math.min(index.precision(), range) / 2;
+        return setNextStepValue(Math.max(validValue + offset, Math.min(invalidValue - offset, predictedValue)));
+    }
+
+    @Override
+    public boolean precisionReached(Index<I> index) {
+        return rangeDivisionIndexStrategy.precisionReached(index);
+    }
+
+    private double getWorstMargin(DichotomyStepResult<I> stepResult) {
+        return worstMargin.apply(stepResult).orElse(Double.NaN);
+    }
+
+    private double setNextStepValue(double value) {
+        nextStepValue = value;
+        return value;
+    }
+
+    /**
+     * Keeps the two last steps used by the secant, starting from the highest valid step and the
+     * lowest invalid step once both are known.
+     */
+    private void recordLastSteps(double validValue, double validMargin, double invalidValue, double invalidMargin) {
+        if (Double.isNaN(nextStepValue)) {
+            previousStepValue = validValue;
+            previousStepMargin = validMargin;
+            lastStepValue = invalidValue;
+            lastStepMargin = invalidMargin;
+        } else if (nextStepValue == validValue || nextStepValue == invalidValue) {
+            previousStepValue = lastStepValue;
+            previousStepMargin = lastStepMargin;
+            lastStepValue = nextStepValue;
+            lastStepMargin = nextStepValue == validValue ? validMargin : invalidMargin;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.cse_valid.api.exception.CseValidInternalException;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dichotomy engine evaluating several candidate shift values per iteration.
+ * At each round, the remaining interval is split into {@code parallelism + 1} parts,
+ * every candidate is shifted on its own network variant, and the validations
+ * (i.e. the RAO round trips) are run concurrently on the given executor.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ParallelDichotomyEngine<I> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelDichotomyEngine.class);
+
+    private final Index<I> index;
+    private final IndexStrategy<I> indexStrategy;
+    private final NetworkShifter networkShifter;
+    private final NetworkValidator<I> networkValidator;
+    private final int parallelism;
+    private final ExecutorService executorService;
+
+    public ParallelDichotomyEngine(Index<I> index,
+                                   IndexStrategy<I> indexStrategy,
+                                   NetworkShifter networkShifter,
+                                   NetworkValidator<I> networkValidator,
+                                   int parallelism,
+                                   ExecutorService executorService) {
+        this.index = Objects.requireNonNull(index);
+        this.indexStrategy = Objects.requireNonNull(indexStrategy);
+        this.networkShifter = Objects.requireNonNull(networkShifter);
+        this.networkValidator = Objects.requireNonNull(networkValidator);
+        this.parallelism = Math.max(1, parallelism);
+        this.executorService = Objects.requireNonNull(executorService);
+    }
+
+    public DichotomyResult<I> run(Network network) {
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariant = variantManager.getWorkingVariantId();
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+        variantManager.allowVariantMultiThreadAccess(true);
+        try {
+            int round = 0;
+            while (!indexStrategy.precisionReached(index)) {
+                List<Double> candidates = nextCandidates();
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                round++;
+                LOGGER.info("Parallel dichotomy round {}: evaluating steps {}", round, candidates);
+                SortedMap<Double, DichotomyStepResult<I>> results = evaluate(network, initialVariant, candidates);
+                recordResults(results);
+            }
+            LOGGER.info("Parallel dichotomy finished after {} round(s)", round);
+        } finally {
+            variantManager.setWorkingVariant(initialVariant);
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+        }
+        return DichotomyResult.buildFromIndex(index);
+    }
+
+    List<Double> nextCandidates() {
+        Pair<Double, DichotomyStepResult<I>> higherValidStep = index.higherValidStep();
+        Pair<Double, DichotomyStepResult<I>> lowestInvalidStep = index.lowestInvalidStep();
+        double lowerBound = higherValidStep != null ? higherValidStep.getLeft() : index.minValue();
+        double upperBound = lowestInvalidStep != null ? lowestInvalidStep.getLeft() : index.maxValue();
+
+        TreeSet<Double> candidates = new TreeSet<>();
+        // Bounds of the range are tested first, as the sequential range division strategy does
+        if (lowestInvalidStep == null) {
+            candidates.add(upperBound);
+        }
+        if (higherValidStep == null && candidates.size() < parallelism) {
+            candidates.add(lowerBound);
+        }
+        int interiorPoints = Math.min(parallelism - candidates.size(), (int) Math.ceil((upperBound - lowerBound) / index.precision()) - 1);
+        for (int i = 1; i <= interiorPoints; i++) {
+            candidates.add(lowerBound + (upperBound - lowerBound) * i / (interiorPoints + 1));
+        }
+        if (higherValidStep != null) {
+            candidates.remove(higherValidStep.getLeft());
+        }
+        if (lowestInvalidStep != null) {
+            candidates.remove(lowestInvalidStep.getLeft());
+        }
+        return new ArrayList<>(candidates);
+    }
+
+    private SortedMap<Double, DichotomyStepResult<I>> evaluate(Network network, String initialVariant, List<Double> candidates) {
+        VariantManager variantManager = network.getVariantManager();
+        SortedMap<Double, DichotomyStepResult<I>> results = new TreeMap<>();
+        Map<Double, StepValidation> pendingValidations = new TreeMap<>();
+        List<String> stepVariants = new ArrayList<>();
+        try {
+            // Shifts are applied sequentially: the shifter and its scalables are not thread safe
+            for (Double stepValue : candidates) {
+                String stepVariant = String.format("%s-ScaledBy-%d", initialVariant, Math.round(stepValue));
+                variantManager.cloneVariant(initialVariant, stepVariant, true);
+                stepVariants.add(stepVariant);
+                variantManager.setWorkingVariant(stepVariant);
+                DichotomyStepResult<I> shiftFailure = shift(stepValue, network);
+                if (shiftFailure != null) {
+                    results.put(stepValue, shiftFailure);
+                } else {
+                    StepValidation stepValidation = new StepValidation(network, stepVariant);
+                    pendingValidations.put(stepValue, stepValidation);
+                    stepValidation.future = executorService.submit(stepValidation);
+                }
+            }
+            variantManager.setWorkingVariant(initialVariant);
+            for (Map.Entry<Double, StepValidation> pendingValidation : pendingValidations.entrySet()) {
+                results.put(pendingValidation.getKey(), pendingValidation.getValue().future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CseValidInternalException("Parallel dichotomy has been interrupted", e);
+        } catch (ExecutionException e) {
+            throw new CseValidInternalException("Parallel dichotomy step failed", e.getCause());
+        } finally {
+            // Variants are removed only once no validation can read them anymore
+            pendingValidations.values().forEach(StepValidation::cancelAndAwait);
+            variantManager.setWorkingVariant(initialVariant);
+            stepVariants.forEach(variantManager::removeVariant);
+        }
+        return results;
+    }
+
+    private DichotomyStepResult<I> shift(double stepValue, Network network) {
+        try {
+            networkShifter.shiftNetwork(stepValue, network);
+            return null;
+        } catch (GlskLimitationException e) {
+            LOGGER.warn("GLSK limits have been reached with step value of {}", stepValue);
+            return DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, e.getMessage());
+        } catch (ShiftingException e) {
+            LOGGER.warn("Validation failed during network shifting with step value of {}", stepValue);
+            return DichotomyStepResult.fromFailure(ReasonInvalid.BALANCE_LOADFLOW_DIVERGENCE, e.getMessage());
+        }
+    }
+
+    /**
+     * Results are fed to the index in ascending order, stopping at the first invalid step:
+     * higher steps are irrelevant once a lower one is known to be invalid, and adding them
+     * could break the monotonicity expected by the index.
+     */
+    private void recordResults(SortedMap<Double, DichotomyStepResult<I>> results) {
+        for (Map.Entry<Double, DichotomyStepResult<I>> result : results.entrySet()) {
+            index.addDichotomyStepResult(result.getKey(), result.getValue());
+            if (!result.getValue().isValid()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Validation of a step on its own variant. A validation which has not started yet when it is
+     * cancelled never starts, and one which has started is awaited, so that its variant can be removed safely.
+     */
+    private final class StepValidation implements Callable<DichotomyStepResult<I>> {
+        private final Network network;
+        private final String stepVariant;
+        private final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private Future<DichotomyStepResult<I>> future;
+
+        private StepValidation(Network network, String stepVariant) {
+            this.network = network;
+            this.stepVariant = stepVariant;
+        }
+
+        @Override
+        public DichotomyStepResult<I> call() {
+            if (!started.compareAndSet(false, true)) {
+                return DichotomyStepResult.fromFailure(ReasonInvalid.VALIDATION_FAILED, "Validation has been cancelled");
+            }
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+            try {
+                network.getVariantManager().setWorkingVariant(stepVariant);
+                return networkValidator.validateNetwork(network, null);
+            } catch (ValidationException e) {
+                LOGGER.warn("Validation failed on variant {}: {}", stepVariant, e.getMessage());
+                return DichotomyStepResult.fromFailure(ReasonInvalid.VALIDATION_FAILED, e.getMessage());
+            } finally {
+                MDC.clear();
+                finished.countDown();
+            }
+        }
+
+        private void cancelAndAwait() {
+            if (future != null) {
+                future.cancel(true);
+            }
+            if (started.compareAndSet(false, true)) {
+                return;
+            }
+            boolean interrupted = false;
+            while (finished.getCount() > 0) {
+                try {
+                    finished.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
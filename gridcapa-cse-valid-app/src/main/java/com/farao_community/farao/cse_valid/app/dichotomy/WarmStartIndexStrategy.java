@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Index strategy starting the dichotomy in a narrow interval around an expected secure shift,
+ * typically the one found for the neighbouring timestamps. The upper bound of the interval is
+ * tested first, then its lower bound. While probes stay on the same side of the secure limit,
+ * the distance to the expected value is doubled, so that a wrong guess only costs a few steps.
+ * Once both a valid and an invalid step are known, the next steps are chosen by the given
+ * strategy, the remaining interval being divided by two by default.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class WarmStartIndexStrategy<I> implements IndexStrategy<I> {
+
+    private final double expectedValue;
+    private final double margin;
+    private final IndexStrategy<I> bracketedIndexStrategy;
+
+    public WarmStartIndexStrategy(double expectedValue, double margin) {
+        this(expectedValue, margin, new RangeDivisionIndexStrategy<>(false));
+    }
+
+    public WarmStartIndexStrategy(double expectedValue, double margin, IndexStrategy<I> bracketedIndexStrategy) {
+        this.expectedValue = expectedValue;
+        this.margin = margin;
+        this.bracketedIndexStrategy = bracketedIndexStrategy;
+    }
+
+    double getExpectedValue() {
+        return expectedValue;
+    }
+
+    @Override
+    public double nextValue(Index<I> index) {
+        Pair<Double, DichotomyStepResult<I>> higherValidStep = index.higherValidStep();
+        Pair<Double, DichotomyStepResult<I>> lowestInvalidStep = index.lowestInvalidStep();
+        double expected = Math.max(index.minValue(), Math.min(index.maxValue(), expectedValue));
+        if (higherValidStep == null && lowestInvalidStep == null) {
+            return Math.min(index.maxValue(), expected + margin);
+        }
+        if (lowestInvalidStep == null) {
+            return Math.min(index.maxValue(), expected + Math.max(margin, 2 * (higherValidStep.getLeft() - expected)));
+        }
+        if (higherValidStep == null) {
+            return Math.max(index.minValue(), expected - Math.max(margin, 2 * (expected - lowestInvalidStep.getLeft())));
+        }
+        return bracketedIndexStrategy.nextValue(index);
+    }
+
+    @Override
+    public boolean precisionReached(Index<I> index) {
+        return bracketedIndexStrategy.precisionReached(index);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.helper;
+
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.Terminal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Index of the branches and HVDC lines linking Italy to its CSE neighbours, built once per network
+ * instead of scanning the whole network for each country area. Flows are computed as in
+ * {@link com.powsybl.balances_adjustment.util.BorderBasedCountryArea}, on the working variant.
+ * <p>
+ * Only identifiers are kept, so that the index, cached with weak network keys, does not prevent
+ * networks from being garbage collected.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class ItalianBorderIndex {
+
+    static final List<Country> NEIGHBOURS = List.of(Country.FR, Country.AT, Country.CH, Country.SI);
+
+    private static final Map<Network, ItalianBorderIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String[] branchIds;
+    private final int[] branchNeighbours;
+    private final boolean[] branchSide1InNeighbour;
+    private final String[] hvdcLineIds;
+    private final int[] hvdcLineNeighbours;
+    private final boolean[] hvdcLineSide1InNeighbour;
+
+    private ItalianBorderIndex(List<Border> branchBorders, List<Border> hvdcLineBorders) {
+        this.branchIds = branchBorders.stream().map(Border::id).toArray(String[]::new);
+        this.branchNeighbours = branchBorders.stream().mapToInt(Border::neighbour).toArray();
+        this.branchSide1InNeighbour = toBooleanArray(branchBorders);
+        this.hvdcLineIds = hvdcLineBorders.stream().map(Border::id).toArray(String[]::new);
+        this.hvdcLineNeighbours = hvdcLineBorders.stream().mapToInt(Border::neighbour).toArray();
+        this.hvdcLineSide1InNeighbour = toBooleanArray(hvdcLineBorders);
+    }
+
+    static ItalianBorderIndex of(Network network) {
+        return INDEXES.computeIfAbsent(network, ItalianBorderIndex::build);
+    }
+
+    /**
+     * Returns, in a single pass over the borders, the flow from each neighbour of {@link #NEIGHBOURS}
+     * to Italy, in the same order.
+     */
+    double[] computeFlowsToItaly(Network network) {
+        double[] flows = new double[NEIGHBOURS.size()];
+        for (int i = 0; i < branchIds.length; i++) {
+            Branch<?> branch = network.getBranch(branchIds[i]);
+            flows[branchNeighbours[i]] += getFlowFromSide1(branch.getTerminal1(), branch.getTerminal2(), branchSide1InNeighbour[i]);
+        }
+        for (int i = 0; i < hvdcLineIds.length; i++) {
+            HvdcLine hvdcLine = network.getHvdcLine(hvdcLineIds[i]);
+            flows[hvdcLineNeighbours[i]] += getFlowFromSide1(hvdcLine.getConverterStation1().getTerminal(), hvdcLine.getConverterStation2().getTerminal(), hvdcLineSide1InNeighbour[i]);
+        }
+        return flows;
+    }
+
+    private static double getFlowFromSide1(Terminal terminal1, Terminal terminal2, boolean side1InNeighbour) {
+        double directFlow = (getActivePower(terminal1) - getActivePower(terminal2)) / 2;
+        return side1InNeighbour ? directFlow : -directFlow;
+    }
+
+    private static double getActivePower(Terminal terminal) {
+        return terminal.isConnected() && !Double.isNaN(terminal.getP()) ? terminal.getP() : 0;
+    }
+
+    private static ItalianBorderIndex build(Network network) {
+        List<Border> branchBorders = new ArrayList<>();
+        network.getBranchStream().forEach(branch ->
+            addBorder(branchBorders, branch.getId(), getCountry(branch.getTerminal1()), getCountry(branch.getTerminal2())));
+        List<Border> hvdcLineBorders = new ArrayList<>();
+        network.getHvdcLineStream().forEach(hvdcLine ->
+            addBorder(hvdcLineBorders, hvdcLine.getId(), getCountry(hvdcLine.getConverterStation1().getTerminal()), getCountry(hvdcLine.getConverterStation2().getTerminal())));
+        return new ItalianBorderIndex(branchBorders, hvdcLineBorders);
+    }
+
+    private static void addBorder(List<Border> borders, String id, Country country1, Country country2) {
+        if (country1 == Country.IT && NEIGHBOURS.contains(country2)) {
+            borders.add(new Border(id, NEIGHBOURS.indexOf(country2), false));
+        } else if (country2 == Country.IT && NEIGHBOURS.contains(country1)) {
+            borders.add(new Border(id, NEIGHBOURS.indexOf(country1), true));
+        }
+    }
+
+    private static Country getCountry(Terminal terminal) {
+        return terminal.getVoltageLevel().getSubstation().flatMap(Substation::getCountry).orElse(null);
+    }
+
+    private static boolean[] toBooleanArray(List<Border> borders) {
+        boolean[] side1InNeighbour = new boolean[borders.size()];
+        for (int i = 0; i < side1InNeighbour.length; i++) {
+            side1InNeighbour[i] = borders.get(i).side1InNeighbour();
+        }
+        return side1InNeighbour;
+    }
+
+    private record Border(String id, int neighbour, boolean side1InNeighbour) {
+    }
+}
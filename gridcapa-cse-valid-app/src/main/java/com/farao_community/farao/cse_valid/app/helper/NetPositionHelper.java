@@ -7,8 +7,8 @@
 package com.farao_community.farao.cse_valid.app.helper;
 
 import com.farao_community.farao.cse_valid.api.exception.CseValidInternalException;
-import com.powsybl.balances_adjustment.util.BorderBasedCountryArea;
-import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlow;
@@ -17,8 +17,6 @@ import com.powsybl.loadflow.LoadFlowResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.stream.Stream;
-
 /**
  * @author Oualid Aloui {@literal <oualid.aloui at rte-france.com>}
  */
@@ -30,24 +28,74 @@ public final class NetPositionHelper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetPositionHelper.class);
 
+    private static volatile CachedLoadFlowParameters cachedLoadFlowParameters;
+
     public static double computeItalianImport(Network network) {
         runLoadFlow(network);
-        BorderBasedCountryArea itArea = (BorderBasedCountryArea) new CountryAreaFactory(Country.IT).create(network);
-        return Stream.of(Country.FR, Country.AT, Country.CH, Country.SI)
-                .map(country -> ((BorderBasedCountryArea) new CountryAreaFactory(country).create(network)).getLeavingFlowToCountry(itArea))
-                .reduce(0., Double::sum);
+        double italianImport = 0.;
+        for (double flowToItaly : ItalianBorderIndex.of(network).computeFlowsToItaly(network)) {
+            italianImport += flowToItaly;
+        }
+        return italianImport;
     }
 
     public static double computeFranceImportFromItaly(Network network) {
         runLoadFlow(network);
-        return ((BorderBasedCountryArea) new CountryAreaFactory(Country.IT).create(network)).getLeavingFlowToCountry((BorderBasedCountryArea) new CountryAreaFactory(Country.FR).create(network));
+        return -ItalianBorderIndex.of(network).computeFlowsToItaly(network)[ItalianBorderIndex.NEIGHBOURS.indexOf(Country.FR)];
     }
 
     private static void runLoadFlow(Network network) {
-        LoadFlowResult result = LoadFlow.run(network, LoadFlowParameters.load());
+        CachedLoadFlowParameters parameters = getCachedLoadFlowParameters();
+        LoadFlowResult result;
+        if (hasVoltageSolution(network)) {
+            result = LoadFlow.run(network, parameters.warmStart());
+            if (result.isFailed()) {
+                LOGGER.warn("Loadflow computation initialized from previous values diverged on network '{}', retrying with configured voltage initialization", network.getId());
+                result = LoadFlow.run(network, parameters.configured());
+            }
+        } else {
+            result = LoadFlow.run(network, parameters.configured());
+        }
         if (result.isFailed()) {
             LOGGER.error("Loadflow computation diverged on network '{}'", network.getId());
             throw new CseValidInternalException(String.format("Loadflow computation diverged on network %s", network.getId()));
         }
     }
+
+    /**
+     * Load flow parameters are loaded once from the platform config. When the network variant already holds
+     * a load flow solution, which is the case of a shifted network or of a variant cloned from a computed one,
+     * the load flow is initialized from it instead of the configured voltage initialization. The returned
+     * parameters are shared between threads and must not be modified.
+     */
+    static LoadFlowParameters getLoadFlowParameters(Network network) {
+        CachedLoadFlowParameters parameters = getCachedLoadFlowParameters();
+        return hasVoltageSolution(network) ? parameters.warmStart() : parameters.configured();
+    }
+
+    private static CachedLoadFlowParameters getCachedLoadFlowParameters() {
+        PlatformConfig platformConfig = PlatformConfig.defaultConfig();
+        CachedLoadFlowParameters parameters = cachedLoadFlowParameters;
+        if (parameters == null || parameters.platformConfig() != platformConfig) {
+            synchronized (NetPositionHelper.class) {
+                parameters = cachedLoadFlowParameters;
+                if (parameters == null || parameters.platformConfig() != platformConfig) {
+                    LoadFlowParameters configured = LoadFlowParameters.load(platformConfig);
+                    LoadFlowParameters warmStart = configured.copy().setVoltageInitMode(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES);
+                    parameters = new CachedLoadFlowParameters(platformConfig, configured, warmStart);
+                    cachedLoadFlowParameters = parameters;
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private static boolean hasVoltageSolution(Network network) {
+        return network.getBusView().getBusStream()
+                .filter(Bus::isInMainConnectedComponent)
+                .allMatch(bus -> !Double.isNaN(bus.getV()) && !Double.isNaN(bus.getAngle()));
+    }
+
+    private record CachedLoadFlowParameters(PlatformConfig platformConfig, LoadFlowParameters configured, LoadFlowParameters warmStart) {
+    }
 }
@@ -58,9 +58,12 @@ public class CseValidRaoRunner {
         }
         RaoSuccessResponse successResponse = (RaoSuccessResponse) raoResponse;
         String raoResultUrl = successResponse.getRaoResultFileUrl();
-        Crac crac = fileImporter.importCracFromJson(successResponse.getCracFileUrl(), network);
-        RaoResult raoResult = fileImporter.importRaoResult(raoResultUrl, crac);
-
-        return raoResult.isSecure();
+        return fileImporter.importRaoResultSecuritySummary(raoResultUrl)
+                .map(RaoResultSecuritySummary::isSecure)
+                .orElseGet(() -> {
+                    Crac crac = fileImporter.importCracFromJson(successResponse.getCracFileUrl(), network);
+                    RaoResult raoResult = fileImporter.importRaoResult(raoResultUrl, crac);
+                    return raoResult.isSecure();
+                });
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.rao;
+
+import com.powsybl.openrao.commons.PhysicalParameter;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.OptionalDouble;
+import java.util.function.Supplier;
+
+/**
+ * RAO result answering security verdicts from a {@link RaoResultSecuritySummary} and importing the
+ * full RAO result, with its CRAC, only on the first call to any other method.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class LazyRaoResult implements InvocationHandler {
+
+    private final RaoResultSecuritySummary securitySummary;
+    private final Supplier<RaoResult> raoResultImporter;
+    private RaoResult raoResult;
+
+    private LazyRaoResult(RaoResultSecuritySummary securitySummary, Supplier<RaoResult> raoResultImporter) {
+        this.securitySummary = securitySummary;
+        this.raoResultImporter = raoResultImporter;
+    }
+
+    public static RaoResult create(RaoResultSecuritySummary securitySummary, Supplier<RaoResult> raoResultImporter) {
+        return (RaoResult) Proxy.newProxyInstance(RaoResult.class.getClassLoader(), new Class<?>[] {RaoResult.class},
+                new LazyRaoResult(securitySummary, raoResultImporter));
+    }
+
+    /**
+     * @return the worst flow margin in MW read from the security summary of a lazy RAO result, or an empty
+     * value for other RAO results, from which it cannot be read without computing all the margins
+     */
+    public static OptionalDouble getWorstFlowMarginInMegawatt(RaoResult raoResult) {
+        if (raoResult != null && Proxy.isProxyClass(raoResult.getClass())
+                && Proxy.getInvocationHandler(raoResult) instanceof LazyRaoResult lazyRaoResult) {
+            return lazyRaoResult.securitySummary.getWorstFlowMarginInMegawatt();
+        }
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if ("isSecure".equals(method.getName())) {
+            if (args == null || args.length == 0) {
+                return securitySummary.isSecure();
+            }
+            if (args.length == 1 && args[0] instanceof PhysicalParameter[] physicalParameters) {
+                return securitySummary.isSecure(physicalParameters);
+            }
+        }
+        switch (method.getName()) {
+            case "equals" -> {
+                return args.length == 1 && proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+                return "LazyRaoResult@" + Integer.toHexString(System.identityHashCode(proxy));
+            }
+            default -> {
+                try {
+                    return method.invoke(getRaoResult(), args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+
+    private synchronized RaoResult getRaoResult() {
+        if (raoResult == null) {
+            raoResult = raoResultImporter.get();
+        }
+        return raoResult;
+    }
+}
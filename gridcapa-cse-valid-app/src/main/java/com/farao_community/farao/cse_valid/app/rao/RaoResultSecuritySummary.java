@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.rao;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.powsybl.openrao.commons.PhysicalParameter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+/**
+ * Security verdict of a RAO result, read by streaming through its JSON file without building
+ * the CRAC nor the RAO result: only the computation status and the margins of the CNECs after
+ * their last optimization are read, the rest of the document being skipped. The worst flow margin
+ * in MW is kept as well, for the dichotomy to interpolate the secure limit.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class RaoResultSecuritySummary {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS)
+            .build();
+    // Versions whose verdict is checked against RaoResult.isSecure on exported RAO results in the tests
+    static final Set<String> SUPPORTED_VERSIONS = Set.of("1.8");
+    private static final String MEGAWATT = "megawatt";
+
+    private final boolean failed;
+    private final double worstFlowMargin;
+    private final double worstAngleMargin;
+    private final double worstVoltageMargin;
+    private final double worstFlowMarginInMegawatt;
+
+    private RaoResultSecuritySummary(boolean failed, WorstMargins worstFlowMargins, double worstAngleMargin, double worstVoltageMargin) {
+        this.failed = failed;
+        this.worstFlowMargin = worstFlowMargins.anyUnit();
+        this.worstAngleMargin = worstAngleMargin;
+        this.worstVoltageMargin = worstVoltageMargin;
+        this.worstFlowMarginInMegawatt = worstFlowMargins.megawatt();
+    }
+
+    /**
+     * @return the summary of the RAO result, or an empty value when the document has a version or a
+     * computation status for which the verdict cannot be safely derived from the margins only
+     */
+    public static Optional<RaoResultSecuritySummary> read(InputStream inputStream) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            String version = null;
+            String computationStatus = null;
+            WorstMargins worstFlowMargins = new WorstMargins(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+            double worstAngleMargin = Double.POSITIVE_INFINITY;
+            double worstVoltageMargin = Double.POSITIVE_INFINITY;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "version" -> version = parser.getText();
+                    case "computationStatus" -> computationStatus = parser.getText();
+                    case "flowCnecResults" -> worstFlowMargins = readWorstMargins(parser);
+                    case "angleCnecResults" -> worstAngleMargin = readWorstMargins(parser).anyUnit();
+                    case "voltageCnecResults" -> worstVoltageMargin = readWorstMargins(parser).anyUnit();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (version == null || !SUPPORTED_VERSIONS.contains(version)) {
+                return Optional.empty();
+            }
+            if ("failure".equals(computationStatus)) {
+                return Optional.of(new RaoResultSecuritySummary(true, new WorstMargins(Double.NaN, Double.NaN), Double.NaN, Double.NaN));
+            }
+            if (!"default".equals(computationStatus)) {
+                return Optional.empty();
+            }
+            return Optional.of(new RaoResultSecuritySummary(false, worstFlowMargins, worstAngleMargin, worstVoltageMargin));
+        }
+    }
+
+    public boolean isSecure() {
+        return isSecure(PhysicalParameter.FLOW, PhysicalParameter.ANGLE, PhysicalParameter.VOLTAGE);
+    }
+
+    public boolean isSecure(PhysicalParameter... physicalParameters) {
+        if (failed) {
+            return false;
+        }
+        for (PhysicalParameter physicalParameter : physicalParameters) {
+            double worstMargin = switch (physicalParameter) {
+                case FLOW -> worstFlowMargin;
+                case ANGLE -> worstAngleMargin;
+                case VOLTAGE -> worstVoltageMargin;
+            };
+            if (worstMargin < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the lowest flow margin in MW of the CNECs after their last optimization, or an empty value
+     * when the RAO failed or no flow margin in MW was found
+     */
+    public OptionalDouble getWorstFlowMarginInMegawatt() {
+        return failed || !Double.isFinite(worstFlowMarginInMegawatt) ? OptionalDouble.empty() : OptionalDouble.of(worstFlowMarginInMegawatt);
+    }
+
+    /**
+     * Reads an array of CNEC results, whose instant results are written in chronological order,
+     * and returns the lowest margins of the CNECs after their last optimization.
+     */
+    private static WorstMargins readWorstMargins(JsonParser parser) throws IOException {
+        WorstMargins worstMargins = new WorstMargins(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return worstMargins;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            WorstMargins lastMargins = new WorstMargins(Double.NaN, Double.NaN);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    WorstMargins instantMargins = readInstantMargins(parser);
+                    if (!Double.isNaN(instantMargins.anyUnit())) {
+                        lastMargins = instantMargins;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            worstMargins = worstMargins.min(lastMargins);
+        }
+        return worstMargins;
+    }
+
+    /**
+     * Returns the first margin found in the current instant result, whatever its unit, and its margin
+     * in megawatt if any, and moves to its end.
+     */
+    private static WorstMargins readInstantMargins(JsonParser parser) throws IOException {
+        double margin = Double.NaN;
+        double megawattMargin = Double.NaN;
+        String unit = null;
+        int depth = 1;
+        while (depth > 0) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("Unexpected end of RAO result document");
+            }
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+            } else if (token == JsonToken.FIELD_NAME && depth == 1) {
+                unit = parser.currentName();
+            } else if (token == JsonToken.FIELD_NAME && "margin".equals(parser.currentName())) {
+                JsonToken valueToken = parser.nextToken();
+                if (valueToken.isNumeric()) {
+                    margin = Double.isNaN(margin) ? parser.getDoubleValue() : margin;
+                    megawattMargin = depth == 2 && MEGAWATT.equals(unit) ? parser.getDoubleValue() : megawattMargin;
+                } else if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                    depth++;
+                }
+            }
+        }
+        return new WorstMargins(margin, megawattMargin);
+    }
+
+    private record WorstMargins(double anyUnit, double megawatt) {
+        private WorstMargins min(WorstMargins other) {
+            return new WorstMargins(min(anyUnit, other.anyUnit), min(megawatt, other.megawatt));
+        }
+
+        private static double min(double margin, double otherMargin) {
+            return Double.isNaN(otherMargin) ? margin : Math.min(margin, otherMargin);
+        }
+    }
+}
@@ -16,9 +16,19 @@ import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationExceptio
 import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
+import java.util.OptionalDouble;
+import java.util.function.ToDoubleFunction;
+
+import static com.farao_community.farao.cse_valid.app.Constants.INITIAL_STATE_VARIANT_ID;
 
 /**
  * @author Oualid Aloui {@literal <oualid.aloui at rte-france.com>}
@@ -26,6 +36,8 @@ import java.time.OffsetDateTime;
 
 @Service
 public class ComputationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComputationService.class);
+    private static final String FINAL_NETWORK_VARIANT_ID = "FinalNetworkWithPra";
 
     private final FileExporter fileExporter;
     private final CseValidRaoRunner cseValidRaoRunner;
@@ -35,6 +47,25 @@ public class ComputationService {
         this.cseValidRaoRunner = cseValidRaoRunner;
     }
 
+    /**
+     * Keeps a copy of the working variant of the network before any shift,
+     * so that it can be used later on as a reference without re-importing the CGM.
+     */
+    protected void saveInitialState(Network network) {
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(variantManager.getWorkingVariantId(), INITIAL_STATE_VARIANT_ID, true);
+    }
+
+    /**
+     * Removes the copy of the network before any shift, if it has not been used and removed by the dichotomy.
+     */
+    protected void removeInitialState(Network network) {
+        VariantManager variantManager = network.getVariantManager();
+        if (variantManager.getVariantIds().contains(INITIAL_STATE_VARIANT_ID)) {
+            variantManager.removeVariant(INITIAL_STATE_VARIANT_ID);
+        }
+    }
+
     protected void shiftNetwork(double shiftValue, Network network, NetworkShifter networkShifter) {
         try {
             networkShifter.shiftNetwork(shiftValue, network);
@@ -43,15 +74,48 @@ public class ComputationService {
         }
     }
 
+    /**
+     * Computes a value on the final network of a dichotomy, rebuilt in memory rather than imported from the
+     * network with PRA exported by the RAO: a variant of the working variant is shifted by the value of the
+     * highest valid step and the preventive remedial actions of its RAO result are applied on it. The variant
+     * is removed once the value is computed.
+     *
+     * @return the computed value, or an empty value when the shift of the final network fails
+     */
+    protected OptionalDouble computeOnFinalNetwork(Network network, double stepValue, NetworkShifter networkShifter, Crac crac, RaoResult raoResult, ToDoubleFunction<Network> computation) {
+        VariantManager variantManager = network.getVariantManager();
+        String workingVariantId = variantManager.getWorkingVariantId();
+        variantManager.cloneVariant(workingVariantId, FINAL_NETWORK_VARIANT_ID, true);
+        try {
+            variantManager.setWorkingVariant(FINAL_NETWORK_VARIANT_ID);
+            networkShifter.shiftNetwork(stepValue, network);
+            applyPreventiveRemedialActions(network, crac, raoResult);
+            return OptionalDouble.of(computation.applyAsDouble(network));
+        } catch (GlskLimitationException | ShiftingException e) {
+            LOGGER.warn("Final network could not be shifted to value {}: {}", stepValue, e.getMessage());
+            return OptionalDouble.empty();
+        } finally {
+            variantManager.setWorkingVariant(workingVariantId);
+            variantManager.removeVariant(FINAL_NETWORK_VARIANT_ID);
+        }
+    }
+
+    private static void applyPreventiveRemedialActions(Network network, Crac crac, RaoResult raoResult) {
+        State preventiveState = crac.getPreventiveState();
+        raoResult.getActivatedNetworkActionsDuringState(preventiveState)
+                .forEach(networkAction -> networkAction.apply(network));
+        raoResult.getActivatedRangeActionsDuringState(preventiveState)
+                .forEach(rangeAction -> rangeAction.apply(network, raoResult.getOptimizedSetPointOnState(preventiveState, rangeAction)));
+    }
+
     protected AbstractRaoResponse runRao(CseValidRequest cseValidRequest, Network network, String jsonCracUrl, String raoParametersURL) {
         ProcessType processType = cseValidRequest.getProcessType();
         OffsetDateTime processTargetDateTime = cseValidRequest.getTimestamp();
         String requestId = cseValidRequest.getId();
         String runId = cseValidRequest.getCurrentRunId();
         String scaledNetworkDirPath = generateScaledNetworkDirPath(network, processTargetDateTime, processType);
-        String scaledNetworkName = network.getNameOrId() + ".xiidm";
-        String networkFilePath = scaledNetworkDirPath + scaledNetworkName;
-        String networkFiledUrl = fileExporter.saveNetworkInArtifact(network, networkFilePath, "", processTargetDateTime, processType);
+        String networkFileBasePath = scaledNetworkDirPath + network.getNameOrId();
+        String networkFiledUrl = fileExporter.saveNetworkInArtifact(network, networkFileBasePath, "", processTargetDateTime, processType);
         String resultsDestination = "CSE/VALID/" + scaledNetworkDirPath;
 
         return cseValidRaoRunner.runRao(requestId, runId, networkFiledUrl, jsonCracUrl, raoParametersURL, resultsDestination);
@@ -8,6 +8,7 @@ package com.farao_community.farao.cse_valid.app.service;
 
 import com.farao_community.farao.cse_valid.api.resource.CseValidRequest;
 import com.farao_community.farao.cse_valid.api.resource.ProcessType;
+import com.farao_community.farao.cse_valid.app.ComputationExecutors;
 import com.farao_community.farao.cse_valid.app.CseValidNetworkShifterProvider;
 import com.farao_community.farao.cse_valid.app.FileExporter;
 import com.farao_community.farao.cse_valid.app.FileImporter;
@@ -25,6 +26,7 @@ import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -33,6 +35,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
 
 import static com.farao_community.farao.cse_valid.app.Constants.ERROR_MSG_MISSING_CALCULATION_DIRECTIONS;
 import static com.farao_community.farao.cse_valid.app.Constants.ERROR_MSG_MISSING_DATA;
@@ -54,6 +57,7 @@ public class ExportCornerComputationService {
     private final Logger businessLogger;
     private final CseValidNetworkShifterProvider cseValidNetworkShifterProvider;
     private final CseValidRaoRunner cseValidRaoRunner;
+    private final ComputationExecutors computationExecutors;
 
     public ExportCornerComputationService(ComputationService computationService,
                                           DichotomyRunner dichotomyRunner,
@@ -61,7 +65,8 @@ public class ExportCornerComputationService {
                                           FileExporter fileExporter,
                                           Logger businessLogger,
                                           CseValidNetworkShifterProvider cseValidNetworkShifterProvider,
-                                          CseValidRaoRunner cseValidRaoRunner) {
+                                          CseValidRaoRunner cseValidRaoRunner,
+                                          ComputationExecutors computationExecutors) {
         this.computationService = computationService;
         this.dichotomyRunner = dichotomyRunner;
         this.fileImporter = fileImporter;
@@ -69,6 +74,7 @@ public class ExportCornerComputationService {
         this.businessLogger = businessLogger;
         this.cseValidNetworkShifterProvider = cseValidNetworkShifterProvider;
         this.cseValidRaoRunner = cseValidRaoRunner;
+        this.computationExecutors = computationExecutors;
     }
 
     public void computeTimestamp(TTimestampWrapper timestampWrapper, CseValidRequest cseValidRequest, TcDocumentTypeWriter tcDocumentTypeWriter) {
@@ -88,32 +94,22 @@ public class ExportCornerComputationService {
             try {
                 CseValidRequestValidator.checkAllFilesExist(cseValidRequest, timestampWrapper.isFranceImportingFromItaly());
 
-                String cgmUrl = cseValidRequest.getCgm().getUrl();
-                Network network = fileImporter.importNetwork(cgmUrl);
-                ProcessType processType = cseValidRequest.getProcessType();
-                double shiftValue = computeShiftValue(timestampWrapper);
-
-                if (shiftValue >= MINIMUM_SHIFT_VALUE) {
-                    String glskUrl = cseValidRequest.getGlsk().getUrl();
-                    NetworkShifter networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType);
-                    computationService.shiftNetwork(shiftValue, network, networkShifter);
-                }
-
-                OffsetDateTime processTargetDateTime = cseValidRequest.getTimestamp();
-                String raoParametersURL = fileExporter.saveRaoParameters(processTargetDateTime, processType);
-
-                String cracUrl = timestampWrapper.isFranceImportingFromItaly()
-                        ? cseValidRequest.getExportCrac().getUrl()
-                        : cseValidRequest.getImportCrac().getUrl();
-                CseCracCreationContext cracCreationContext = fileImporter.importCracCreationContext(cracUrl, network);
-                String jsonCracUrl = fileExporter.saveCracInJsonFormat(cracCreationContext.getCrac(), cseValidRequest.getTimestamp(), cseValidRequest.getProcessType());
-
-                AbstractRaoResponse raoResponse = computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersURL);
-
-                if (cseValidRaoRunner.isSecure(raoResponse, network)) {
-                    tcDocumentTypeWriter.fillTimestampExportCornerSuccess(timestamp, timestampWrapper.getMiecValue());
-                } else {
-                    runDichotomy(timestampWrapper, cseValidRequest, tcDocumentTypeWriter, jsonCracUrl, raoParametersURL, network, cracCreationContext);
+                PreparedComputation preparedComputation = prepareComputation(timestampWrapper, cseValidRequest);
+                Network network = preparedComputation.network();
+                CseCracCreationContext cracCreationContext = preparedComputation.cracCreationContext();
+                String jsonCracUrl = preparedComputation.jsonCracUrl();
+                String raoParametersURL = preparedComputation.raoParametersUrl();
+
+                try {
+                    AbstractRaoResponse raoResponse = computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersURL);
+
+                    if (cseValidRaoRunner.isSecure(raoResponse, network)) {
+                        tcDocumentTypeWriter.fillTimestampExportCornerSuccess(timestamp, timestampWrapper.getMiecValue());
+                    } else {
+                        runDichotomy(timestampWrapper, cseValidRequest, tcDocumentTypeWriter, jsonCracUrl, raoParametersURL, network, cracCreationContext);
+                    }
+                } finally {
+                    computationService.removeInitialState(network);
                 }
             } catch (CseValidRequestValidatorException e) {
                 businessLogger.error("Missing some input files for timestamp '{}'", timestampWrapper.getTimeValue());
@@ -122,6 +118,42 @@ public class ExportCornerComputationService {
         }
     }
 
+    /**
+     * Imports the CGM, shifts it and uploads the JSON CRAC and the RAO parameters needed by the first RAO.
+     * The RAO parameters upload and the GLSK import do not depend on the network, they are run concurrently
+     * with the CGM import.
+     */
+    private PreparedComputation prepareComputation(TTimestampWrapper timestampWrapper, CseValidRequest cseValidRequest) {
+        String cgmUrl = cseValidRequest.getCgm().getUrl();
+        String glskUrl = cseValidRequest.getGlsk().getUrl();
+        String cracUrl = timestampWrapper.isFranceImportingFromItaly()
+                ? cseValidRequest.getExportCrac().getUrl()
+                : cseValidRequest.getImportCrac().getUrl();
+        ProcessType processType = cseValidRequest.getProcessType();
+        OffsetDateTime processTargetDateTime = cseValidRequest.getTimestamp();
+        double shiftValue = computeShiftValue(timestampWrapper);
+        boolean shiftNeeded = shiftValue >= MINIMUM_SHIFT_VALUE;
+        try (PreparationPipeline pipeline = new PreparationPipeline(computationExecutors.newThreadPerTaskExecutor("preparation-"))) {
+            CompletableFuture<Network> networkStage = pipeline.stage("cgm-import", () -> fileImporter.importNetwork(cgmUrl));
+            CompletableFuture<GlskDocument> glskStage = shiftNeeded
+                    ? pipeline.stage("glsk-import", () -> fileImporter.importGlsk(glskUrl))
+                    : CompletableFuture.completedFuture(null);
+            CompletableFuture<String> raoParametersStage = pipeline.stage("rao-parameters-upload", () -> fileExporter.saveRaoParameters(processTargetDateTime, processType));
+
+            Network network = pipeline.join(networkStage);
+            computationService.saveInitialState(network);
+            if (shiftNeeded) {
+                GlskDocument glskDocument = pipeline.join(glskStage);
+                NetworkShifter networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType);
+                pipeline.runAction("initial-shift", () -> computationService.shiftNetwork(shiftValue, network, networkShifter));
+            }
+
+            CseCracCreationContext cracCreationContext = pipeline.run("crac-import", () -> fileImporter.importCracCreationContext(cracUrl, network));
+            String jsonCracUrl = pipeline.run("json-crac-upload", () -> fileExporter.saveCracInJsonFormat(cracCreationContext.getCrac(), cracUrl, network, processTargetDateTime, processType));
+            return new PreparedComputation(network, cracCreationContext, jsonCracUrl, pipeline.join(raoParametersStage));
+        }
+    }
+
     private static boolean irrelevantValuesInTimestamp(TTimestampWrapper timestampWrapper) {
         // MIEC is present but both values MiBIEC and ANTCFinal are absent or both values are equal to zero
         final boolean mibiecAndAntcfinalAbsent = timestampWrapper.getMibiec() == null && timestampWrapper.getAntcfinal() == null;
@@ -157,17 +189,21 @@ public class ExportCornerComputationService {
             String raoResultFileUrl = dichotomyResult.getHighestValidStep().getValidationData().getRaoResultFileUrl();
             RaoResult raoResult = fileImporter.importRaoResult(raoResultFileUrl, cracCreationContext.getCrac());
             TLimitingElement tLimitingElement = LimitingElementHelper.getLimitingElement(raoResult, cracCreationContext, network);
-            double value = computeExportCornerValue(timestampWrapper, dichotomyResult);
+            double value = computeExportCornerValue(timestampWrapper, cseValidRequest, dichotomyResult, network, cracCreationContext, raoResult);
             tcDocumentTypeWriter.fillTimestampWithExportCornerDichotomyResponse(timestampWrapper.getTimestamp(), tLimitingElement, value, timestampWrapper.isFranceImportingFromItaly());
         } else {
             tcDocumentTypeWriter.fillDichotomyError(timestampWrapper.getTimestamp());
         }
     }
 
-    private double computeExportCornerValue(TTimestampWrapper timestampWrapper, DichotomyResult<RaoSuccessResponse> dichotomyResult) {
-        String finalNetworkWithPraUrl = dichotomyResult.getHighestValidStep().getValidationData().getNetworkWithPraFileUrl();
-        Network network = fileImporter.importNetwork(finalNetworkWithPraUrl);
-        double value = NetPositionHelper.computeFranceImportFromItaly(network);
+    private double computeExportCornerValue(TTimestampWrapper timestampWrapper, CseValidRequest cseValidRequest, DichotomyResult<RaoSuccessResponse> dichotomyResult,
+                                            Network network, CseCracCreationContext cracCreationContext, RaoResult raoResult) {
+        NetworkShifter networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithItalyFrance(timestampWrapper, network, cseValidRequest.getGlsk().getUrl(), cseValidRequest.getProcessType());
+        double value = computationService.computeOnFinalNetwork(network, dichotomyResult.getHighestValidStepValue(), networkShifter, cracCreationContext.getCrac(), raoResult, NetPositionHelper::computeFranceImportFromItaly)
+                .orElseGet(() -> {
+                    String finalNetworkWithPraUrl = dichotomyResult.getHighestValidStep().getValidationData().getNetworkWithPraFileUrl();
+                    return NetPositionHelper.computeFranceImportFromItaly(fileImporter.importNetwork(finalNetworkWithPraUrl));
+                });
         return timestampWrapper.isFranceImportingFromItaly() ? value : value * -1;
     }
 }
@@ -8,6 +8,7 @@ package com.farao_community.farao.cse_valid.app.service;
 
 import com.farao_community.farao.cse_valid.api.resource.CseValidRequest;
 import com.farao_community.farao.cse_valid.api.resource.ProcessType;
+import com.farao_community.farao.cse_valid.app.ComputationExecutors;
 import com.farao_community.farao.cse_valid.app.CseValidNetworkShifterProvider;
 import com.farao_community.farao.cse_valid.app.FileExporter;
 import com.farao_community.farao.cse_valid.app.FileImporter;
@@ -25,6 +26,7 @@ import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -33,6 +35,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
 
 import static com.farao_community.farao.cse_valid.app.Constants.ERROR_MSG_MISSING_DATA;
 
@@ -52,6 +55,7 @@ public class FullImportComputationService {
     private final Logger businessLogger;
     private final CseValidNetworkShifterProvider cseValidNetworkShifterProvider;
     private final CseValidRaoRunner cseValidRaoRunner;
+    private final ComputationExecutors computationExecutors;
 
     public FullImportComputationService(ComputationService computationService,
                                         DichotomyRunner dichotomyRunner,
@@ -59,7 +63,8 @@ public class FullImportComputationService {
                                         FileExporter fileExporter,
                                         Logger businessLogger,
                                         CseValidNetworkShifterProvider cseValidNetworkShifterProvider,
-                                        CseValidRaoRunner cseValidRaoRunner) {
+                                        CseValidRaoRunner cseValidRaoRunner,
+                                        ComputationExecutors computationExecutors) {
         this.computationService = computationService;
         this.dichotomyRunner = dichotomyRunner;
         this.fileImporter = fileImporter;
@@ -67,6 +72,7 @@ public class FullImportComputationService {
         this.businessLogger = businessLogger;
         this.cseValidNetworkShifterProvider = cseValidNetworkShifterProvider;
         this.cseValidRaoRunner = cseValidRaoRunner;
+        this.computationExecutors = computationExecutors;
     }
 
     public void computeTimestamp(TTimestampWrapper timestampWrapper, CseValidRequest cseValidRequest, TcDocumentTypeWriter tcDocumentTypeWriter) {
@@ -82,23 +88,11 @@ public class FullImportComputationService {
             try {
                 CseValidRequestValidator.checkAllFilesExist(cseValidRequest, false);
 
-                String cgmUrl = cseValidRequest.getCgm().getUrl();
-                Network network = fileImporter.importNetwork(cgmUrl);
-                ProcessType processType = cseValidRequest.getProcessType();
-                double shiftValue = computeShiftValue(timestampWrapper, network);
-
-                if (shiftValue >= MINIMUM_SHIFT_VALUE) {
-                    String glskUrl = cseValidRequest.getGlsk().getUrl();
-                    NetworkShifter networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType);
-                    computationService.shiftNetwork(shiftValue, network, networkShifter);
-                }
-
-                String cracUrl = cseValidRequest.getImportCrac().getUrl();
-                CseCracCreationContext cracCreationContext = fileImporter.importCracCreationContext(cracUrl, network);
-                String jsonCracUrl = fileExporter.saveCracInJsonFormat(cracCreationContext.getCrac(), cseValidRequest.getTimestamp(), cseValidRequest.getProcessType());
-
-                OffsetDateTime processTargetDateTime = cseValidRequest.getTimestamp();
-                String raoParametersURL = fileExporter.saveRaoParameters(processTargetDateTime, processType);
+                PreparedComputation preparedComputation = prepareComputation(timestampWrapper, cseValidRequest);
+                Network network = preparedComputation.network();
+                CseCracCreationContext cracCreationContext = preparedComputation.cracCreationContext();
+                String jsonCracUrl = preparedComputation.jsonCracUrl();
+                String raoParametersURL = preparedComputation.raoParametersUrl();
 
                 AbstractRaoResponse raoResponse = computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersURL);
 
@@ -115,6 +109,36 @@ public class FullImportComputationService {
         }
     }
 
+    /**
+     * Imports the CGM, shifts it and uploads the JSON CRAC and the RAO parameters needed by the first RAO.
+     * The RAO parameters upload and the GLSK import do not depend on the network, they are run concurrently
+     * with the CGM import.
+     */
+    private PreparedComputation prepareComputation(TTimestampWrapper timestampWrapper, CseValidRequest cseValidRequest) {
+        String cgmUrl = cseValidRequest.getCgm().getUrl();
+        String glskUrl = cseValidRequest.getGlsk().getUrl();
+        String cracUrl = cseValidRequest.getImportCrac().getUrl();
+        ProcessType processType = cseValidRequest.getProcessType();
+        OffsetDateTime processTargetDateTime = cseValidRequest.getTimestamp();
+        try (PreparationPipeline pipeline = new PreparationPipeline(computationExecutors.newThreadPerTaskExecutor("preparation-"))) {
+            CompletableFuture<Network> networkStage = pipeline.stage("cgm-import", () -> fileImporter.importNetwork(cgmUrl));
+            CompletableFuture<GlskDocument> glskStage = pipeline.stage("glsk-import", () -> fileImporter.importGlsk(glskUrl));
+            CompletableFuture<String> raoParametersStage = pipeline.stage("rao-parameters-upload", () -> fileExporter.saveRaoParameters(processTargetDateTime, processType));
+
+            Network network = pipeline.join(networkStage);
+            double shiftValue = computeShiftValue(timestampWrapper, network);
+            if (shiftValue >= MINIMUM_SHIFT_VALUE) {
+                GlskDocument glskDocument = pipeline.join(glskStage);
+                NetworkShifter networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskDocument, processType);
+                pipeline.runAction("initial-shift", () -> computationService.shiftNetwork(shiftValue, network, networkShifter));
+            }
+
+            CseCracCreationContext cracCreationContext = pipeline.run("crac-import", () -> fileImporter.importCracCreationContext(cracUrl, network));
+            String jsonCracUrl = pipeline.run("json-crac-upload", () -> fileExporter.saveCracInJsonFormat(cracCreationContext.getCrac(), cracUrl, network, processTargetDateTime, processType));
+            return new PreparedComputation(network, cracCreationContext, jsonCracUrl, pipeline.join(raoParametersStage));
+        }
+    }
+
     private static boolean irrelevantValuesInTimestamp(TTimestampWrapper timestampWrapper) {
         // MNII is present but both values MiBNII and ANTCFinal are absent or both values are equal to zero
         final boolean mibniiAndAntcfinalAbsent = timestampWrapper.getMibnii() == null && timestampWrapper.getAntcfinal() == null;
@@ -153,7 +177,7 @@ public class FullImportComputationService {
             TLimitingElement tLimitingElement = LimitingElementHelper.getLimitingElement(raoResult, cracCreationContext, network);
 
             BigDecimal mibniiValue = timestampWrapper.getMibniiValue().subtract(timestampWrapper.getAntcfinalValue());
-            double mniiValue = computeMnii(dichotomyResult);
+            double mniiValue = computeMnii(timestampWrapper, cseValidRequest, dichotomyResult, network, cracCreationContext, raoResult);
 
             tcDocumentTypeWriter.fillTimestampWithFullImportDichotomyResponse(timestampWrapper.getTimestamp(), mibniiValue, mniiValue, tLimitingElement);
         } else {
@@ -161,9 +185,13 @@ public class FullImportComputationService {
         }
     }
 
-    private double computeMnii(DichotomyResult<RaoSuccessResponse> dichotomyResult) {
-        String finalNetworkWithPraUrl = dichotomyResult.getHighestValidStep().getValidationData().getNetworkWithPraFileUrl();
-        Network network = fileImporter.importNetwork(finalNetworkWithPraUrl);
-        return NetPositionHelper.computeItalianImport(network);
+    private double computeMnii(TTimestampWrapper timestampWrapper, CseValidRequest cseValidRequest, DichotomyResult<RaoSuccessResponse> dichotomyResult,
+                               Network network, CseCracCreationContext cracCreationContext, RaoResult raoResult) {
+        NetworkShifter networkShifter = cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, cseValidRequest.getGlsk().getUrl(), cseValidRequest.getProcessType());
+        return computationService.computeOnFinalNetwork(network, dichotomyResult.getHighestValidStepValue(), networkShifter, cracCreationContext.getCrac(), raoResult, NetPositionHelper::computeItalianImport)
+                .orElseGet(() -> {
+                    String finalNetworkWithPraUrl = dichotomyResult.getHighestValidStep().getValidationData().getNetworkWithPraFileUrl();
+                    return NetPositionHelper.computeItalianImport(fileImporter.importNetwork(finalNetworkWithPraUrl));
+                });
     }
 }
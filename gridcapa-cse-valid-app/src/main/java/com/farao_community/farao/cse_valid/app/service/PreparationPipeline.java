@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.service;
+
+import com.farao_community.farao.cse_valid.api.exception.CseValidInternalException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the preparation stages of a computation that do not depend on each other concurrently,
+ * the stages depending on others being run in the calling thread once their inputs are joined.
+ * Each stage records when it started and how long it lasted, relative to the pipeline creation,
+ * so that the critical path can be read in the logs.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class PreparationPipeline implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparationPipeline.class);
+
+    record StageTiming(long startMs, long durationMs) {
+    }
+
+    private final ExecutorService executorService;
+    private final long creationNanos = System.nanoTime();
+    private final Map<String, StageTiming> timings = new LinkedHashMap<>();
+
+    PreparationPipeline(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Starts the stage in the background.
+     */
+    <T> CompletableFuture<T> stage(String name, Supplier<T> supplier) {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        return CompletableFuture.supplyAsync(() -> runStage(name, supplier, mdcContext), executorService);
+    }
+
+    /**
+     * Runs the stage in the calling thread, recording its timing like the other stages.
+     */
+    <T> T run(String name, Supplier<T> supplier) {
+        return runStage(name, supplier, null);
+    }
+
+    void runAction(String name, Runnable runnable) {
+        run(name, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits for the stage and returns its result, rethrowing its failure as is.
+     */
+    <T> T join(CompletableFuture<T> stage) {
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CseValidInternalException("Error during computation preparation", e.getCause());
+        } catch (CancellationException e) {
+            throw new CseValidInternalException("Computation preparation has been cancelled", e);
+        }
+    }
+
+    synchronized Map<String, StageTiming> getTimings() {
+        return new LinkedHashMap<>(timings);
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        LOGGER.info("Computation preparation stages (start ms, duration ms): {}", getTimings().entrySet().stream()
+                .map(entry -> String.format("%s (+%d, %d)", entry.getKey(), entry.getValue().startMs(), entry.getValue().durationMs()))
+                .collect(Collectors.joining(", ")));
+    }
+
+    private <T> T runStage(String name, Supplier<T> supplier, Map<String, String> mdcContext) {
+        if (mdcContext != null) {
+            MDC.setContextMap(mdcContext);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            long endNanos = System.nanoTime();
+            synchronized (this) {
+                timings.put(name, new StageTiming((startNanos - creationNanos) / 1_000_000, (endNanos - startNanos) / 1_000_000));
+            }
+            if (mdcContext != null) {
+                MDC.clear();
+            }
+        }
+    }
+}
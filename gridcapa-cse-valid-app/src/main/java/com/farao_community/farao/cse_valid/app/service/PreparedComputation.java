@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.service;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
+
+/**
+ * Inputs of the first RAO of a computation, once prepared.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+record PreparedComputation(Network network, CseCracCreationContext cracCreationContext, String jsonCracUrl, String raoParametersUrl) {
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ArtifactCacheTest {
+
+    private final ArtifactCache artifactCache = new ArtifactCache(2, new SimpleMeterRegistry());
+
+    @Test
+    void artifactIsReusedForSameUrlAndOwner() {
+        AtomicInteger parseCount = new AtomicInteger();
+        Object owner = new Object();
+
+        Object artifact = artifactCache.get("url", owner, () -> newArtifact(parseCount));
+
+        assertSame(artifact, artifactCache.get("url", owner, () -> newArtifact(parseCount)));
+        assertEquals(1, parseCount.get());
+        assertEquals(1, artifactCache.getMissCount());
+        assertEquals(1, artifactCache.getHitCount());
+    }
+
+    @Test
+    void artifactIsNotSharedBetweenOwners() {
+        AtomicInteger parseCount = new AtomicInteger();
+
+        Object artifact = artifactCache.get("url", new Object(), () -> newArtifact(parseCount));
+
+        assertNotSame(artifact, artifactCache.get("url", new Object(), () -> newArtifact(parseCount)));
+        assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    void cacheIsBounded() {
+        AtomicInteger parseCount = new AtomicInteger();
+        Object owner = new Object();
+
+        artifactCache.get("url1", owner, () -> newArtifact(parseCount));
+        artifactCache.get("url2", owner, () -> newArtifact(parseCount));
+        artifactCache.get("url3", owner, () -> newArtifact(parseCount));
+        artifactCache.get("url1", owner, () -> newArtifact(parseCount));
+
+        assertEquals(2, artifactCache.size());
+        assertEquals(4, parseCount.get());
+    }
+
+    private static Object newArtifact(AtomicInteger parseCount) {
+        parseCount.incrementAndGet();
+        return new Object();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ComputationExecutorsTest {
+    @Test
+    void platformThreadsAreUsedByDefault() throws InterruptedException {
+        ExecutorService executorService = new ComputationExecutors(false).newFixedExecutor("test-", 1);
+        try {
+            AtomicInteger virtualCount = new AtomicInteger();
+            executorService.submit(() -> virtualCount.addAndGet(Thread.currentThread().isVirtual() ? 1 : 0));
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(0, virtualCount.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void tasksRunOnVirtualThreadsWhenEnabled() throws InterruptedException {
+        ComputationExecutors computationExecutors = new ComputationExecutors(true);
+        assertTrue(computationExecutors.isVirtualThreads());
+        ExecutorService executorService = computationExecutors.newFixedExecutor("test-", 2);
+        try {
+            AtomicInteger virtualCount = new AtomicInteger();
+            for (int i = 0; i < 4; i++) {
+                executorService.submit(() -> virtualCount.addAndGet(Thread.currentThread().isVirtual() ? 1 : 0));
+            }
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(4, virtualCount.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void fixedExecutorsAreBoundedWithVirtualThreads() {
+        ExecutorService executorService = new ComputationExecutors(true).newFixedExecutor("test-", 3);
+        try {
+            ThreadPoolExecutor threadPoolExecutor = assertInstanceOf(ThreadPoolExecutor.class, executorService);
+            assertEquals(3, threadPoolExecutor.getMaximumPoolSize());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
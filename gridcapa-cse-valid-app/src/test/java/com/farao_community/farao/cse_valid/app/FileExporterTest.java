@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import com.farao_community.farao.cse_valid.api.resource.ProcessType;
+import com.farao_community.farao.cse_valid.app.configuration.NetworkExchangeFormat;
+import com.farao_community.farao.cse_valid.app.configuration.NetworkExportConfiguration;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class FileExporterTest {
+    private static final OffsetDateTime PROCESS_TARGET_DATE_TIME = OffsetDateTime.parse("2020-08-12T22:30Z");
+
+    private final MinioAdapter minioAdapter = mock(MinioAdapter.class);
+
+    @Test
+    void streamedNetworkUploadContainsWholeNetwork() throws IOException {
+        byte[] uploadedBytes = saveNetwork(new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false), "network.xiidm");
+
+        Network network = Network.read("network.xiidm", new ByteArrayInputStream(uploadedBytes));
+        assertEquals(readTestNetwork().getId(), network.getId());
+        assertEquals(readTestNetwork().getLineCount(), network.getLineCount());
+    }
+
+    @Test
+    void inMemoryNetworkUploadContainsWholeNetwork() throws IOException {
+        byte[] uploadedBytes = saveNetwork(new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, false, 1024, false), "network.xiidm");
+
+        Network network = Network.read("network.xiidm", new ByteArrayInputStream(uploadedBytes));
+        assertEquals(readTestNetwork().getId(), network.getId());
+    }
+
+    @Test
+    void compressedNetworkUploadIsGzipped() throws IOException {
+        byte[] uploadedBytes = saveNetwork(new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, true), "network.xiidm.gz");
+
+        try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(uploadedBytes))) {
+            Network network = Network.read("network.xiidm", is);
+            assertEquals(readTestNetwork().getId(), network.getId());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(NetworkExchangeFormat.class)
+    void networkIsUploadedInConfiguredFormat(NetworkExchangeFormat format) {
+        String expectedFilePath = "network." + format.getExtension();
+        byte[] uploadedBytes = saveNetwork(new NetworkExportConfiguration(format, true, 1024, false), expectedFilePath, readTestNetwork());
+
+        Network network = Network.read(expectedFilePath, new ByteArrayInputStream(uploadedBytes));
+        assertEquals(readTestNetwork().getId(), network.getId());
+        assertEquals(readTestNetwork().getLineCount(), network.getLineCount());
+    }
+
+    @Test
+    void binaryAndGzippedFormatsAreSmallerThanPlainXiidm() {
+        Network cseNetwork = Network.read("20211125_1930_2D4_CO_Final_CSE1.uct", getClass().getResourceAsStream("/20211125_1930_2D4_CO_Final_CSE1.uct"));
+        Map<NetworkExchangeFormat, Integer> plainSizes = new EnumMap<>(NetworkExchangeFormat.class);
+        for (NetworkExchangeFormat format : NetworkExchangeFormat.values()) {
+            for (boolean gzip : new boolean[] {false, true}) {
+                NetworkExportConfiguration configuration = new NetworkExportConfiguration(format, true, 1024 * 1024, gzip);
+                byte[] uploadedBytes = saveNetwork(configuration, "network." + configuration.getFileExtension(), cseNetwork);
+                if (!gzip) {
+                    plainSizes.put(format, uploadedBytes.length);
+                } else {
+                    assertTrue(uploadedBytes.length < plainSizes.get(format));
+                }
+            }
+        }
+        assertTrue(plainSizes.get(NetworkExchangeFormat.BIIDM) < plainSizes.get(NetworkExchangeFormat.XIIDM));
+    }
+
+    @Test
+    void raoParametersAreSerializedAndUploadedOnce() {
+        Set<String> uploadedPaths = new HashSet<>();
+        doAnswer(invocation -> uploadedPaths.add(invocation.getArgument(0)))
+                .when(minioAdapter).uploadArtifactForTimestamp(anyString(), any(InputStream.class), anyString(), anyString(), any(OffsetDateTime.class));
+        when(minioAdapter.fileExists(anyString())).thenAnswer(invocation -> uploadedPaths.contains(invocation.<String>getArgument(0)));
+        when(minioAdapter.generatePreSignedUrl(anyString())).thenAnswer(invocation -> "url/" + invocation.getArgument(0));
+        FileExporter fileExporter = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false));
+
+        String firstUrl = fileExporter.saveRaoParameters(PROCESS_TARGET_DATE_TIME, ProcessType.D2CC);
+        String secondUrl = fileExporter.saveRaoParameters(PROCESS_TARGET_DATE_TIME.plusHours(1), ProcessType.D2CC);
+
+        assertEquals(firstUrl, secondUrl);
+        assertTrue(firstUrl.startsWith("url/D2CC/ARTIFACTS/RAO_PARAMETERS/"));
+        assertTrue(firstUrl.endsWith("/raoParameters.json"));
+        verify(minioAdapter, times(1)).uploadArtifactForTimestamp(anyString(), any(InputStream.class), anyString(), anyString(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void raoParametersUploadIsSkippedWhenAlreadyStored() {
+        when(minioAdapter.fileExists(anyString())).thenReturn(true);
+        when(minioAdapter.generatePreSignedUrl(anyString())).thenReturn("url");
+        FileExporter fileExporter = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false));
+
+        assertEquals("url", fileExporter.saveRaoParameters(PROCESS_TARGET_DATE_TIME, ProcessType.IDCC));
+        verify(minioAdapter, never()).uploadArtifactForTimestamp(anyString(), any(InputStream.class), anyString(), anyString(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void identicalCracIsWrittenAndUploadedOnce() {
+        Set<String> uploadedPaths = new HashSet<>();
+        doAnswer(invocation -> uploadedPaths.add(invocation.getArgument(0)))
+                .when(minioAdapter).uploadArtifactForTimestamp(anyString(), any(InputStream.class), anyString(), anyString(), any(OffsetDateTime.class));
+        when(minioAdapter.fileExists(anyString())).thenAnswer(invocation -> uploadedPaths.contains(invocation.<String>getArgument(0)));
+        when(minioAdapter.generatePreSignedUrl(anyString())).thenAnswer(invocation -> "url/" + invocation.getArgument(0));
+        FileExporter fileExporter = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false));
+        Crac crac = mock(Crac.class);
+        Network network = mock(Network.class);
+        when(network.getId()).thenReturn("network");
+
+        String firstUrl = fileExporter.saveCracInJsonFormat(crac, "http://host/crac.xml?signature=1", network, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC);
+        String secondUrl = fileExporter.saveCracInJsonFormat(crac, "http://host/crac.xml?signature=2", network, PROCESS_TARGET_DATE_TIME.plusHours(1), ProcessType.D2CC);
+
+        assertEquals(firstUrl, secondUrl);
+        assertTrue(firstUrl.startsWith("url/D2CC/ARTIFACTS/CRAC/"));
+        verify(crac, times(1)).write(eq("JSON"), any());
+        verify(minioAdapter, times(1)).uploadArtifactForTimestamp(anyString(), any(InputStream.class), anyString(), anyString(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void cracCreatedOnAnotherNetworkIsUploadedSeparately() {
+        when(minioAdapter.generatePreSignedUrl(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        FileExporter fileExporter = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false));
+        Network firstNetwork = mock(Network.class);
+        when(firstNetwork.getId()).thenReturn("network1");
+        Network secondNetwork = mock(Network.class);
+        when(secondNetwork.getId()).thenReturn("network2");
+
+        String firstUrl = fileExporter.saveCracInJsonFormat(mock(Crac.class), "http://host/crac.xml", firstNetwork, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC);
+        String secondUrl = fileExporter.saveCracInJsonFormat(mock(Crac.class), "http://host/crac.xml", secondNetwork, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC);
+
+        assertNotEquals(firstUrl, secondUrl);
+        verify(minioAdapter, times(2)).uploadArtifactForTimestamp(anyString(), any(InputStream.class), anyString(), anyString(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void ttcValidationVersionIsResolvedWithFewExistenceChecks() {
+        Set<String> storedFiles = mockInMemoryOutputStore();
+        AtomicInteger existenceChecks = new AtomicInteger();
+        when(minioAdapter.fileExists(anyString())).thenAnswer(invocation -> {
+            existenceChecks.incrementAndGet();
+            return storedFiles.contains(invocation.<String>getArgument(0));
+        });
+        TcDocumentTypeWriter tcDocumentTypeWriter = mock(TcDocumentTypeWriter.class);
+        when(tcDocumentTypeWriter.buildTcDocumentType()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[0]));
+
+        String firstVersion = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false))
+                .saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC);
+        assertTrue(firstVersion.endsWith("_1.xml"));
+        for (int version = 2; version <= 40; version++) {
+            storedFiles.add(firstVersion.replace("_1.xml", "_" + version + ".xml"));
+        }
+
+        FileExporter fileExporter = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false));
+        existenceChecks.set(0);
+        assertEquals(firstVersion.replace("_1.xml", "_41.xml"), fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC));
+        assertTrue(existenceChecks.get() <= 12);
+
+        existenceChecks.set(0);
+        assertEquals(firstVersion.replace("_1.xml", "_42.xml"), fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC));
+        assertTrue(existenceChecks.get() <= 4);
+    }
+
+    @Test
+    void ttcValidationVersionIsSearchedFromStartWhenRememberedVersionHasBeenRemoved() {
+        Set<String> storedFiles = mockInMemoryOutputStore();
+        when(minioAdapter.fileExists(anyString())).thenAnswer(invocation -> storedFiles.contains(invocation.<String>getArgument(0)));
+        TcDocumentTypeWriter tcDocumentTypeWriter = mock(TcDocumentTypeWriter.class);
+        when(tcDocumentTypeWriter.buildTcDocumentType()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[0]));
+        FileExporter fileExporter = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false));
+
+        String firstVersion = fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC);
+        assertTrue(fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC).endsWith("_2.xml"));
+        assertTrue(fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC).endsWith("_3.xml"));
+
+        storedFiles.clear();
+        assertEquals(firstVersion, fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC));
+    }
+
+    @Test
+    void lastTtcValidationVersionIsOverwrittenWhenAllVersionsExist() {
+        mockInMemoryOutputStore();
+        when(minioAdapter.fileExists(anyString())).thenReturn(true);
+        TcDocumentTypeWriter tcDocumentTypeWriter = mock(TcDocumentTypeWriter.class);
+        FileExporter fileExporter = new FileExporter(minioAdapter, new NetworkExportConfiguration(NetworkExchangeFormat.XIIDM, true, 1024, false));
+
+        assertTrue(fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC).endsWith("_99.xml"));
+        assertTrue(fileExporter.saveTtcValidation(tcDocumentTypeWriter, PROCESS_TARGET_DATE_TIME, ProcessType.D2CC).endsWith("_99.xml"));
+    }
+
+    private Set<String> mockInMemoryOutputStore() {
+        Set<String> storedFiles = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> storedFiles.add(invocation.getArgument(0)))
+                .when(minioAdapter).safelyUploadOutputForTimestamp(anyString(), any(), anyString(), anyString(), any(OffsetDateTime.class));
+        when(minioAdapter.generatePreSignedUrl(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        return storedFiles;
+    }
+
+    private byte[] saveNetwork(NetworkExportConfiguration networkExportConfiguration, String expectedFilePath) {
+        return saveNetwork(networkExportConfiguration, expectedFilePath, readTestNetwork());
+    }
+
+    private byte[] saveNetwork(NetworkExportConfiguration networkExportConfiguration, String expectedFilePath, Network networkToSave) {
+        AtomicReference<byte[]> uploadedBytes = new AtomicReference<>();
+        doAnswer(invocation -> {
+            try (InputStream is = invocation.getArgument(1)) {
+                uploadedBytes.set(is.readAllBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }).when(minioAdapter).uploadArtifactForTimestamp(eq(expectedFilePath), any(InputStream.class), anyString(), anyString(), any(OffsetDateTime.class));
+        when(minioAdapter.generatePreSignedUrl(expectedFilePath)).thenReturn("url");
+
+        FileExporter fileExporter = new FileExporter(minioAdapter, networkExportConfiguration);
+        String url = fileExporter.saveNetworkInArtifact(networkToSave, "network", "", PROCESS_TARGET_DATE_TIME, ProcessType.D2CC);
+
+        assertEquals("url", url);
+        return uploadedBytes.get();
+    }
+
+    private Network readTestNetwork() {
+        return Network.read("TestCase16Nodes.xiidm", getClass().getResourceAsStream("/TestCase16Nodes.xiidm"));
+    }
+}
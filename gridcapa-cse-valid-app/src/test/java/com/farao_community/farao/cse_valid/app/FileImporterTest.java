@@ -6,6 +6,8 @@
  */
 package com.farao_community.farao.cse_valid.app;
 
+import com.farao_community.farao.cse_valid.app.rao.RaoResultSecuritySummary;
+import com.farao_community.farao.cse_valid.app.ttc_adjustment.TTimestamp;
 import com.farao_community.farao.cse_valid.app.ttc_adjustment.TcDocumentType;
 import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.iidm.network.Branch;
@@ -14,6 +16,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.PhaseTapChanger;
 import com.powsybl.iidm.network.PhaseTapChangerStep;
 import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.openrao.commons.PhysicalParameter;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -30,6 +33,8 @@ import java.util.Objects;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -38,12 +43,15 @@ import static org.mockito.Mockito.when;
  * @author Oualid Aloui {@literal <oualid.aloui at rte-france.com>}
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  */
-@SpringBootTest
+@SpringBootTest(properties = "cse-valid-runner.rao-result.security-probe=true")
 class FileImporterTest {
 
     @Autowired
     private FileImporter fileImporter;
 
+    @Autowired
+    private GlskDocumentCache glskDocumentCache;
+
     private static Network mockNetworkWithLines(String... lineIds) {
         Network network = mock(Network.class);
         for (String lineId : lineIds) {
@@ -63,6 +71,14 @@ class FileImporterTest {
         assertEquals("Critical Branch", document.getAdjustmentResults().get(0).getTimestamp().get(0).getTTCLimitedBy().getV());
     }
 
+    @Test
+    void testImportTtcAdjustmentTimestamp() {
+        TTimestamp timestamp = fileImporter.importTtcAdjustmentTimestamp(getClass().getResource("/TTC_Adjustment_20200813_2D4_CSE1_Simple_Import.xml").toString(),
+                t -> "2020-08-12T22:30Z".equals(t.getReferenceCalculationTime().getV()));
+        assertEquals("Critical Branch", timestamp.getTTCLimitedBy().getV());
+        assertNull(fileImporter.importTtcAdjustmentTimestamp("/DoesNotExist.xml", t -> true));
+    }
+
     @Test
     void testImportTtcNonExistingFile() {
         assertNull(fileImporter.importTtcAdjustment("/DoesNotExist.xml"));
@@ -74,6 +90,20 @@ class FileImporterTest {
         assertNotNull(glskDocument);
     }
 
+    @Test
+    void testImportGlskIsReusedAcrossRequests() {
+        String glskUrl = Objects.requireNonNull(getClass().getResource("/20211125_1930_2D4_CO_GSK_CSE1.xml")).toString();
+        glskDocumentCache.clear();
+        double missesBefore = glskDocumentCache.getMissCount();
+        double hitsBefore = glskDocumentCache.getHitCount();
+
+        GlskDocument glskDocument = fileImporter.importGlsk(glskUrl);
+
+        assertSame(glskDocument, fileImporter.importGlsk(glskUrl));
+        assertEquals(missesBefore + 1, glskDocumentCache.getMissCount());
+        assertEquals(hitsBefore + 1, glskDocumentCache.getHitCount());
+    }
+
     @Test
     void testImportNetwork() {
         Network network = fileImporter.importNetwork("cgm.uct", Objects.requireNonNull(getClass().getResource("/20211125_1930_2D4_CO_Final_CSE1.uct")).toString());
@@ -90,11 +120,35 @@ class FileImporterTest {
         assertNotNull(raoResult);
     }
 
+    @Test
+    void testImportRaoResultSecuritySummaryMatchesRaoResult() throws IOException {
+        Network network = Network.read("TestCase16Nodes.xiidm", getClass().getResourceAsStream("/TestCase16Nodes.xiidm"));
+        Crac crac;
+        try (InputStream cracInputStream = getClass().getResourceAsStream("/SL_ep13us3case1.json")) {
+            crac = Crac.read("crac.json", cracInputStream, network);
+        }
+        String raoResultUrl = Objects.requireNonNull(getClass().getResource("/raoResult.json")).toString();
+        RaoResult raoResult = fileImporter.importRaoResult(raoResultUrl, crac);
+
+        RaoResultSecuritySummary securitySummary = fileImporter.importRaoResultSecuritySummary(raoResultUrl).orElseThrow();
+
+        assertEquals(raoResult.isSecure(), securitySummary.isSecure());
+        assertEquals(raoResult.isSecure(PhysicalParameter.FLOW), securitySummary.isSecure(PhysicalParameter.FLOW));
+    }
+
+    @Test
+    void testImportRaoResultSecuritySummaryOfInvalidFileIsEmpty() {
+        String ttcUrl = Objects.requireNonNull(getClass().getResource("/TTC_Adjustment_20200813_2D4_CSE1_Simple_Import.xml")).toString();
+        assertTrue(fileImporter.importRaoResultSecuritySummary(ttcUrl).isEmpty());
+    }
+
     @Test
     void testImportCracFromJson() {
         Network network = Network.read("TestCase16Nodes.xiidm", getClass().getResourceAsStream("/TestCase16Nodes.xiidm"));
-        Crac crac = fileImporter.importCracFromJson(Objects.requireNonNull(getClass().getResource("/SL_ep13us3case1.json")).toString(), network);
+        String cracUrl = Objects.requireNonNull(getClass().getResource("/SL_ep13us3case1.json")).toString();
+        Crac crac = fileImporter.importCracFromJson(cracUrl, network);
         assertNotNull(crac);
+        assertSame(crac, fileImporter.importCracFromJson(cracUrl, network));
     }
 
     @Test
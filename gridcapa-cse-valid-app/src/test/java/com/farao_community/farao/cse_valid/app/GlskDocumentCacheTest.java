@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import com.powsybl.glsk.api.GlskDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class GlskDocumentCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlskDocumentCache glskDocumentCache = new GlskDocumentCache(2, Duration.ofHours(36), meterRegistry, clock);
+
+    @Test
+    void documentIsParsedOncePerContent() {
+        AtomicInteger parseCount = new AtomicInteger();
+
+        GlskDocument glskDocument = glskDocumentCache.get("hash", () -> newGlskDocument(parseCount));
+
+        assertSame(glskDocument, glskDocumentCache.get("hash", () -> newGlskDocument(parseCount)));
+        assertEquals(1, parseCount.get());
+        assertEquals(1, glskDocumentCache.getMissCount());
+        assertEquals(1, glskDocumentCache.getHitCount());
+        assertEquals(1, meterRegistry.get("cse.valid.glsk.cache.size").gauge().value());
+    }
+
+    @Test
+    void leastRecentlyUsedDocumentIsEvicted() {
+        AtomicInteger parseCount = new AtomicInteger();
+        GlskDocument glskDocument1 = glskDocumentCache.get("hash1", () -> newGlskDocument(parseCount));
+        glskDocumentCache.get("hash2", () -> newGlskDocument(parseCount));
+        glskDocumentCache.get("hash1", () -> newGlskDocument(parseCount));
+
+        glskDocumentCache.get("hash3", () -> newGlskDocument(parseCount));
+
+        assertEquals(2, glskDocumentCache.size());
+        assertEquals(1, glskDocumentCache.getEvictionCount());
+        assertSame(glskDocument1, glskDocumentCache.get("hash1", () -> newGlskDocument(parseCount)));
+        glskDocumentCache.get("hash2", () -> newGlskDocument(parseCount));
+        assertEquals(4, parseCount.get());
+    }
+
+    @Test
+    void expiredDocumentIsParsedAgain() {
+        AtomicInteger parseCount = new AtomicInteger();
+        GlskDocument glskDocument = glskDocumentCache.get("hash", () -> newGlskDocument(parseCount));
+
+        clock.advance(Duration.ofHours(35));
+        assertSame(glskDocument, glskDocumentCache.get("hash", () -> newGlskDocument(parseCount)));
+        clock.advance(Duration.ofHours(1));
+
+        assertNotSame(glskDocument, glskDocumentCache.get("hash", () -> newGlskDocument(parseCount)));
+        assertEquals(2, parseCount.get());
+        assertEquals(1, glskDocumentCache.getEvictionCount());
+    }
+
+    @Test
+    void disabledCacheAlwaysParses() {
+        AtomicInteger parseCount = new AtomicInteger();
+        GlskDocumentCache disabledCache = new GlskDocumentCache(0, Duration.ofHours(36), new SimpleMeterRegistry(), clock);
+
+        disabledCache.get("hash", () -> newGlskDocument(parseCount));
+        disabledCache.get("hash", () -> newGlskDocument(parseCount));
+
+        assertEquals(2, parseCount.get());
+        assertEquals(0, disabledCache.size());
+    }
+
+    private static GlskDocument newGlskDocument(AtomicInteger parseCount) {
+        parseCount.incrementAndGet();
+        return mock(GlskDocument.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class NetworkPoolTest {
+
+    private static final String CGM_FILENAME = "20211125_1930_2D4_CO_Final_CSE1.uct";
+
+    @Test
+    void pooledNetworkIsImportedOnceAndCopiedForEachCaller() {
+        NetworkPool networkPool = new NetworkPool(true, Long.MAX_VALUE, new SimpleMeterRegistry());
+        AtomicInteger importCount = new AtomicInteger();
+
+        Network network = networkPool.get("cgm", () -> importNetwork(importCount));
+        Load load = network.getLoads().iterator().next();
+        double initialP0 = load.getP0();
+        Network copy = networkPool.get("cgm", () -> importNetwork(importCount));
+        copy.getLoad(load.getId()).setP0(initialP0 + 100);
+
+        assertEquals(1, importCount.get());
+        assertNotSame(network, copy);
+        assertEquals(network.getId(), copy.getId());
+        assertEquals(network.getLoadCount(), copy.getLoadCount());
+        assertEquals(network.getBranchCount(), copy.getBranchCount());
+        assertEquals(initialP0, networkPool.get("cgm", () -> importNetwork(importCount)).getLoad(load.getId()).getP0(), 1e-6);
+        assertEquals(1, networkPool.getMissCount());
+        assertEquals(2, networkPool.getHitCount());
+        assertTrue(networkPool.getSize() > 0);
+    }
+
+    @Test
+    void leastRecentlyUsedNetworkIsEvictedOverMemoryBudget() {
+        NetworkPool unboundedPool = new NetworkPool(true, Long.MAX_VALUE, new SimpleMeterRegistry());
+        unboundedPool.get("cgm", () -> importNetwork(new AtomicInteger()));
+        NetworkPool networkPool = new NetworkPool(true, unboundedPool.getSize() + 1, new SimpleMeterRegistry());
+        AtomicInteger importCount = new AtomicInteger();
+
+        networkPool.get("cgm1", () -> importNetwork(importCount));
+        networkPool.get("cgm2", () -> importNetwork(importCount));
+        networkPool.get("cgm2", () -> importNetwork(importCount));
+        networkPool.get("cgm1", () -> importNetwork(importCount));
+
+        assertEquals(3, importCount.get());
+        assertEquals(unboundedPool.getSize(), networkPool.getSize());
+    }
+
+    @Test
+    void disabledPoolAlwaysImports() {
+        NetworkPool networkPool = new NetworkPool(false, Long.MAX_VALUE, new SimpleMeterRegistry());
+        AtomicInteger importCount = new AtomicInteger();
+
+        networkPool.get("cgm", () -> importNetwork(importCount));
+        networkPool.get("cgm", () -> importNetwork(importCount));
+
+        assertEquals(2, importCount.get());
+        assertEquals(0, networkPool.getSize());
+    }
+
+    private Network importNetwork(AtomicInteger importCount) {
+        importCount.incrementAndGet();
+        return Network.read(CGM_FILENAME, Objects.requireNonNull(getClass().getResourceAsStream("/" + CGM_FILENAME)));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PipedNetworkInputStreamTest {
+
+    @Test
+    void writtenBytesAreReadThroughSmallerPipe() throws IOException {
+        byte[] content = new byte[10_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        try (InputStream is = PipedNetworkInputStream.open(os -> os.write(content), 1024)) {
+            assertArrayEquals(content, is.readAllBytes());
+        }
+    }
+
+    @Test
+    void writerFailureIsRethrownAtEndOfStream() throws IOException {
+        try (InputStream is = PipedNetworkInputStream.open(os -> {
+            os.write(new byte[100]);
+            throw new IOException("Serialization failure");
+        }, 1024)) {
+            IOException exception = assertThrows(IOException.class, is::readAllBytes);
+            assertEquals("Serialization failure", exception.getCause().getMessage());
+        }
+    }
+}
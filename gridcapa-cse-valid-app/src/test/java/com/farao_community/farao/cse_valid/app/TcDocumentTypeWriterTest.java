@@ -17,6 +17,7 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.util.ReflectionTestUtils;
 import xsd.etso_core_cmpts.QuantityType;
@@ -38,11 +39,14 @@ import static com.farao_community.farao.cse_valid.app.Constants.ERROR_MSG_MISSIN
 
 @SpringBootTest
 class TcDocumentTypeWriterTest {
+    @Autowired
+    private TtcDocumentCodec ttcDocumentCodec;
+
     private TcDocumentTypeWriter tcDocumentTypeWriter;
     private TcDocumentType tcDocumentType;
 
     private void initTcDocumentTypeWriter(CseValidRequest processRequest) {
-        tcDocumentTypeWriter = new TcDocumentTypeWriter(processRequest);
+        tcDocumentTypeWriter = new TcDocumentTypeWriter(processRequest, ttcDocumentCodec);
         tcDocumentType = Mockito.mock(TcDocumentType.class);
         ReflectionTestUtils.setField(tcDocumentTypeWriter, "tcDocumentType", this.tcDocumentType);
     }
@@ -92,6 +96,26 @@ class TcDocumentTypeWriterTest {
         assertions.assertAll();
     }
 
+    @Test
+    void fillTimestampReplacesPreviousValidationResults() {
+        // CseValidRequest
+        CseValidRequest cseValidRequest = initCseValidRequest();
+        initTcDocumentTypeWriter(cseValidRequest);
+        // TTimestamp
+        TTimestamp firstTs = new TTimestamp();
+        initTimeDataInTimestamp(firstTs);
+        TTimestamp secondTs = new TTimestamp();
+        initTimeDataInTimestamp(secondTs);
+        // Mock
+        Mockito.when(tcDocumentType.getValidationResults()).thenReturn(new ArrayList<>());
+
+        tcDocumentTypeWriter.fillTimestampError(firstTs, "first");
+        tcDocumentTypeWriter.fillTimestampFullExportSuccess(secondTs, BigDecimal.ONE);
+
+        Assertions.assertThat(this.tcDocumentType.getValidationResults()).hasSize(1);
+        Assertions.assertThat(this.tcDocumentType.getValidationResults().get(0).getTimestamp()).containsExactly(secondTs);
+    }
+
     @Test
     void fillTimestampFullImportSuccess() {
         // CseValidRequest
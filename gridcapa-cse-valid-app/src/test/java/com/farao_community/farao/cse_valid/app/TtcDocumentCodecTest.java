@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app;
+
+import com.farao_community.farao.cse_valid.app.ttc_adjustment.TTimestamp;
+import com.farao_community.farao.cse_valid.app.ttc_adjustment.TcDocumentType;
+import jakarta.xml.bind.JAXBException;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TtcDocumentCodecTest {
+
+    private final TtcDocumentCodec ttcDocumentCodec = new TtcDocumentCodec(false);
+
+    @Test
+    void readAndWriteTtcDocument() throws IOException, JAXBException {
+        TcDocumentType tcDocumentType;
+        try (InputStream is = getClass().getResourceAsStream("/TTC_Adjustment_20200813_2D4_CSE1_Simple_Import.xml")) {
+            tcDocumentType = ttcDocumentCodec.readTtcAdjustment(is);
+        }
+        assertEquals("TTC_Adjustment_20200813_2D4_CSE", tcDocumentType.getDocumentIdentification().getV());
+
+        String writtenDocument;
+        try (InputStream is = ttcDocumentCodec.writeTtcValidation(tcDocumentType)) {
+            writtenDocument = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertTrue(writtenDocument.contains("<TTC_rtevalidation_document"));
+        assertTrue(writtenDocument.contains("TTC_Adjustment_20200813_2D4_CSE"));
+    }
+
+    @Test
+    void schemaIsLoadedOnlyWhenValidationIsEnabled() {
+        assertFalse(ttcDocumentCodec.isSchemaValidationEnabled());
+        assertTrue(new TtcDocumentCodec(true).isSchemaValidationEnabled());
+    }
+
+    @Test
+    void readOnlyRequestedTimestamp() throws IOException, JAXBException, XMLStreamException {
+        TTimestamp timestamp;
+        try (InputStream is = getClass().getResourceAsStream("/TTC_Adjustment_20200813_2D4_CSE1_Simple_Import.xml")) {
+            timestamp = ttcDocumentCodec.readTtcAdjustmentTimestamp(is, t -> "2020-08-13T05:30Z".equals(t.getTime().getV()));
+        }
+        assertNotNull(timestamp);
+        assertEquals("2020-08-13T05:30Z", timestamp.getReferenceCalculationTime().getV());
+    }
+
+    @Test
+    void readMissingTimestampReturnsNull() throws IOException, JAXBException, XMLStreamException {
+        try (InputStream is = getClass().getResourceAsStream("/TTC_Adjustment_20200813_2D4_CSE1_Simple_Import.xml")) {
+            assertNull(ttcDocumentCodec.readTtcAdjustmentTimestamp(is, t -> "2020-08-14T05:30Z".equals(t.getTime().getV())));
+        }
+    }
+}
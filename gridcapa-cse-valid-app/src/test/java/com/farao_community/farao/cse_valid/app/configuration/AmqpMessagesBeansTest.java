@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class AmqpMessagesBeansTest {
+    private static final long GIGABYTE = 1024L * 1024 * 1024;
+
+    @Test
+    void consumersAreNotCappedWithoutMemoryBudget() {
+        assertEquals(8, AmqpMessagesBeans.capConsumersToMemoryBudget(8, 0, 4 * GIGABYTE));
+    }
+
+    @Test
+    void consumersAreCappedToFitInMaxHeap() {
+        assertEquals(3, AmqpMessagesBeans.capConsumersToMemoryBudget(8, 2 * GIGABYTE, 7 * GIGABYTE));
+        assertEquals(8, AmqpMessagesBeans.capConsumersToMemoryBudget(8, GIGABYTE, 16 * GIGABYTE));
+    }
+
+    @Test
+    void atLeastOneConsumerIsKept() {
+        assertEquals(1, AmqpMessagesBeans.capConsumersToMemoryBudget(8, 8 * GIGABYTE, 4 * GIGABYTE));
+        assertEquals(1, AmqpMessagesBeans.capConsumersToMemoryBudget(0, 0, 4 * GIGABYTE));
+    }
+}
@@ -37,5 +37,9 @@ class AmqpMessagesConfigurationTest {
         assertNotNull(responseExchange);
         assertEquals("cse-valid-response", responseExchange.getName());
         assertEquals("600000", amqpConfiguration.cseValidResponseExpiration());
+        assertEquals(1, amqpConfiguration.getConcurrentConsumers());
+        assertEquals(1, amqpConfiguration.getMaxConcurrentConsumers());
+        assertEquals(1, amqpConfiguration.getPrefetchCount());
+        assertEquals(0, amqpConfiguration.getMemoryPerRequest().toBytes());
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.cse_valid.api.resource.ProcessType;
+import com.farao_community.farao.cse_valid.app.configuration.DichotomyHistoryConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DichotomyHistoryTest {
+
+    private static final OffsetDateTime TIME = OffsetDateTime.parse("2026-10-17T14:30Z");
+
+    @TempDir
+    private Path directory;
+
+    private DichotomyHistory newHistory(boolean enabled, String directory) {
+        return new DichotomyHistory(new DichotomyHistoryConfiguration(enabled, directory, Duration.ofHours(2), Duration.ofDays(7), 500));
+    }
+
+    @Test
+    void closestSecureExchangeOfSameProcessAndDirectionIsUsed() {
+        DichotomyHistory history = newHistory(true, "");
+        history.record(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME.minusHours(2), 1000);
+        history.record(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME.minusHours(1), 1200);
+        history.record(ProcessType.IDCC, DichotomyHistory.Direction.FULL_IMPORT, TIME, 3000);
+        history.record(ProcessType.D2CC, DichotomyHistory.Direction.EXPORT_CORNER_FRANCE_IMPORTING, TIME, -500);
+
+        assertEquals(OptionalDouble.of(1200), history.findNeighbourSecureExchange(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME));
+        assertEquals(OptionalDouble.of(3000), history.findNeighbourSecureExchange(ProcessType.IDCC, DichotomyHistory.Direction.FULL_IMPORT, TIME.plusHours(1)));
+        assertTrue(history.findNeighbourSecureExchange(ProcessType.D2CC, DichotomyHistory.Direction.EXPORT_CORNER_FRANCE_EXPORTING, TIME).isEmpty());
+    }
+
+    @Test
+    void equallyCloseSecureExchangesAreAveraged() {
+        DichotomyHistory history = newHistory(true, "");
+        history.record(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME.minusHours(1), 1000);
+        history.record(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME.plusHours(1), 1400);
+
+        assertEquals(OptionalDouble.of(1200), history.findNeighbourSecureExchange(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME));
+    }
+
+    @Test
+    void secureExchangesOutsideWindowAreIgnored() {
+        DichotomyHistory history = newHistory(true, "");
+        history.record(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME.minusHours(3), 1000);
+
+        assertTrue(history.findNeighbourSecureExchange(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME).isEmpty());
+    }
+
+    @Test
+    void secureExchangesArePersistedInDirectory() {
+        newHistory(true, directory.toString()).record(ProcessType.IDCC, DichotomyHistory.Direction.FULL_IMPORT, TIME, 1500);
+
+        DichotomyHistory reloadedHistory = newHistory(true, directory.toString());
+
+        assertEquals(OptionalDouble.of(1500), reloadedHistory.findNeighbourSecureExchange(ProcessType.IDCC, DichotomyHistory.Direction.FULL_IMPORT, TIME.plusHours(1)));
+    }
+
+    @Test
+    void disabledHistoryRecordsNothing() {
+        DichotomyHistory history = newHistory(false, "");
+        history.record(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME, 1000);
+
+        assertTrue(history.findNeighbourSecureExchange(ProcessType.D2CC, DichotomyHistory.Direction.FULL_IMPORT, TIME).isEmpty());
+    }
+}
@@ -8,6 +8,7 @@ package com.farao_community.farao.cse_valid.app.dichotomy;
 
 import com.farao_community.farao.cse_valid.api.resource.CseValidRequest;
 import com.farao_community.farao.cse_valid.api.resource.ProcessType;
+import com.farao_community.farao.cse_valid.app.Constants;
 import com.farao_community.farao.cse_valid.app.CseValidNetworkShifterProvider;
 import com.farao_community.farao.cse_valid.app.FileExporter;
 import com.farao_community.farao.cse_valid.app.FileImporter;
@@ -21,10 +22,14 @@ import com.farao_community.farao.cse_valid.app.utils.TimestampTestData;
 import com.farao_community.farao.dichotomy.api.DichotomyEngine;
 import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
@@ -33,8 +38,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -67,6 +82,9 @@ class DichotomyRunnerTest {
     @MockitoBean
     private EicCodesMapper eicCodesMapper;
 
+    @MockitoBean
+    private DichotomyHistory dichotomyHistory;
+
     @MockitoSpyBean
     private DichotomyRunner dichotomyRunner;
 
@@ -93,13 +111,13 @@ class DichotomyRunnerTest {
 
         when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
         doReturn(networkValidator).when(dichotomyRunner).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
-        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator);
+        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
 
         dichotomyRunner.runDichotomy(timestampWrapper, cseValidRequest, jsonCracUrl, raoParameterUrl, network, false);
 
         verify(cseValidNetworkShifterProvider, times(1)).getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType);
         verify(dichotomyRunner, times(1)).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
-        verify(dichotomyRunner, times(1)).getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator);
+        verify(dichotomyRunner, times(1)).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
         verify(engine, times(1)).run(network);
     }
 
@@ -122,6 +140,7 @@ class DichotomyRunnerTest {
 
         Network initialNetwork = mock(Network.class);
         Network network = mock(Network.class);
+        when(network.getVariantManager()).thenReturn(mock(VariantManager.class));
         NetworkShifter networkShifter = mock(NetworkShifter.class);
         NetworkValidator<RaoSuccessResponse> networkValidator = mock(NetworkValidator.class);
         DichotomyEngine<RaoSuccessResponse> engine = mock(DichotomyEngine.class);
@@ -129,7 +148,7 @@ class DichotomyRunnerTest {
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(initialNetwork);
         when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithItalyFrance(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
         doReturn(networkValidator).when(dichotomyRunner).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
-        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator);
+        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
         try (MockedStatic<NetPositionHelper> netPositionHelperMockedStatic = Mockito.mockStatic(NetPositionHelper.class)) {
             netPositionHelperMockedStatic.when(() -> NetPositionHelper.computeFranceImportFromItaly(initialNetwork))
                     .thenReturn(franceImportBeforeShifting);
@@ -140,7 +159,7 @@ class DichotomyRunnerTest {
 
         verify(cseValidNetworkShifterProvider, times(1)).getNetworkShifterForExportCornerWithItalyFrance(timestampWrapper, network, glskUrl, processType);
         verify(dichotomyRunner, times(1)).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
-        verify(dichotomyRunner, times(1)).getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator);
+        verify(dichotomyRunner, times(1)).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
         verify(engine, times(1)).run(network);
     }
 
@@ -163,6 +182,7 @@ class DichotomyRunnerTest {
 
         Network initialNetwork = mock(Network.class);
         Network network = mock(Network.class);
+        when(network.getVariantManager()).thenReturn(mock(VariantManager.class));
         NetworkShifter networkShifter = mock(NetworkShifter.class);
         NetworkValidator<RaoSuccessResponse> networkValidator = mock(NetworkValidator.class);
         DichotomyEngine<RaoSuccessResponse> engine = mock(DichotomyEngine.class);
@@ -170,7 +190,7 @@ class DichotomyRunnerTest {
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(initialNetwork);
         when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithItalyFrance(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
         doReturn(networkValidator).when(dichotomyRunner).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
-        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator);
+        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
         try (MockedStatic<NetPositionHelper> netPositionHelperMockedStatic = Mockito.mockStatic(NetPositionHelper.class)) {
             netPositionHelperMockedStatic.when(() -> NetPositionHelper.computeFranceImportFromItaly(initialNetwork))
                     .thenReturn(franceImportBeforeShifting);
@@ -181,7 +201,126 @@ class DichotomyRunnerTest {
 
         verify(cseValidNetworkShifterProvider, times(1)).getNetworkShifterForExportCornerWithItalyFrance(timestampWrapper, network, glskUrl, processType);
         verify(dichotomyRunner, times(1)).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
-        verify(dichotomyRunner, times(1)).getDichotomyEngine(minValue, maxValue, networkShifter, networkValidator);
+        verify(dichotomyRunner, times(1)).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
+        verify(engine, times(1)).run(network);
+    }
+
+    @Test
+    void runDichotomyForExportCornerUsesInitialStateVariant() {
+        CseValidRequest cseValidRequest = CseValidRequestTestData.getExportCseValidRequest(ProcessType.IDCC);
+        String glskUrl = cseValidRequest.getGlsk().getUrl();
+        ProcessType processType = cseValidRequest.getProcessType();
+
+        TTimestamp timestamp = TimestampTestData.getTimestampWithFranceInArea();
+        TTimestampWrapper timestampWrapper = new TTimestampWrapper(timestamp, eicCodesConfiguration, eicCodesMapper);
+
+        String jsonCracUrl = "/CSE/VALID/crac.utc";
+        String raoParameterUrl = "/CSE/VALID/raoParameter.utc";
+        double franceImportBeforeShifting = 400.0;
+        double franceImportAfterShifting = 1000.0;
+        double minValue = franceImportBeforeShifting - franceImportAfterShifting;
+        double maxValue = 0.0;
+
+        Network network = mock(Network.class);
+        VariantManager variantManager = mock(VariantManager.class);
+        NetworkShifter networkShifter = mock(NetworkShifter.class);
+        NetworkValidator<RaoSuccessResponse> networkValidator = mock(NetworkValidator.class);
+        DichotomyEngine<RaoSuccessResponse> engine = mock(DichotomyEngine.class);
+
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getVariantIds()).thenReturn(List.of("InitialState", Constants.INITIAL_STATE_VARIANT_ID));
+        when(variantManager.getWorkingVariantId()).thenReturn("InitialState");
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithItalyFrance(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        doReturn(networkValidator).when(dichotomyRunner).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
+        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
+        try (MockedStatic<NetPositionHelper> netPositionHelperMockedStatic = Mockito.mockStatic(NetPositionHelper.class)) {
+            netPositionHelperMockedStatic.when(() -> NetPositionHelper.computeFranceImportFromItaly(network))
+                    .thenReturn(franceImportBeforeShifting, franceImportAfterShifting);
+            dichotomyRunner.runDichotomy(timestampWrapper, cseValidRequest, jsonCracUrl, raoParameterUrl, network, true);
+        }
+
+        verify(fileImporter, never()).importNetwork(Mockito.anyString());
+        verify(variantManager, times(1)).setWorkingVariant(Constants.INITIAL_STATE_VARIANT_ID);
+        verify(variantManager, times(1)).setWorkingVariant("InitialState");
+        verify(variantManager, times(1)).removeVariant(Constants.INITIAL_STATE_VARIANT_ID);
+        verify(dichotomyRunner, times(1)).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), any());
         verify(engine, times(1)).run(network);
     }
+
+    @Test
+    void runDichotomyStartsAroundNeighbourSecureExchangeAndRecordsResult() {
+        CseValidRequest cseValidRequest = CseValidRequestTestData.getImportCseValidRequest(ProcessType.IDCC);
+        String glskUrl = cseValidRequest.getGlsk().getUrl();
+        ProcessType processType = cseValidRequest.getProcessType();
+
+        TTimestamp timestamp = TimestampTestData.getTimestampWithMniiAndMibniiAndAntcfinalAndActualNtcBelowTarget();
+        TTimestampWrapper timestampWrapper = new TTimestampWrapper(timestamp, eicCodesConfiguration, eicCodesMapper);
+
+        String jsonCracUrl = "/CSE/VALID/crac.utc";
+        String raoParameterUrl = "/CSE/VALID/raoParameter.utc";
+        double minValue = 0.0;
+        double maxValue = timestampWrapper.getMniiIntValue() - (timestampWrapper.getMibniiIntValue() - timestampWrapper.getAntcfinalIntValue());
+
+        Network network = mock(Network.class);
+        NetworkShifter networkShifter = mock(NetworkShifter.class);
+        NetworkValidator<RaoSuccessResponse> networkValidator = mock(NetworkValidator.class);
+        DichotomyEngine<RaoSuccessResponse> engine = mock(DichotomyEngine.class);
+        DichotomyResult<RaoSuccessResponse> dichotomyResult = mock(DichotomyResult.class);
+
+        when(dichotomyHistory.findNeighbourSecureExchange(processType, DichotomyHistory.Direction.FULL_IMPORT, cseValidRequest.getTime())).thenReturn(OptionalDouble.of(1000));
+        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(engine.run(network)).thenReturn(dichotomyResult);
+        when(dichotomyResult.hasValidStep()).thenReturn(true);
+        when(dichotomyResult.getHighestValidStepValue()).thenReturn(1100.0);
+        doReturn(networkValidator).when(dichotomyRunner).getNetworkValidator(cseValidRequest, jsonCracUrl, raoParameterUrl);
+        doReturn(engine).when(dichotomyRunner).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), isA(WarmStartIndexStrategy.class));
+
+        dichotomyRunner.runDichotomy(timestampWrapper, cseValidRequest, jsonCracUrl, raoParameterUrl, network, false);
+
+        verify(dichotomyRunner, times(1)).getDichotomyEngine(eq(minValue), eq(maxValue), eq(networkShifter), eq(networkValidator), isA(WarmStartIndexStrategy.class));
+        double italianImportBeforeDichotomy = (double) timestampWrapper.getMibniiIntValue() - timestampWrapper.getAntcfinalIntValue();
+        verify(dichotomyHistory, times(1)).record(processType, DichotomyHistory.Direction.FULL_IMPORT, cseValidRequest.getTime(), italianImportBeforeDichotomy + 1100.0);
+    }
+
+    @Test
+    void runDichotomyConvertsNeighbourSecureExchangeToTheIndexOfTheComputedHour() {
+        CseValidRequest cseValidRequest = CseValidRequestTestData.getImportCseValidRequest(ProcessType.IDCC);
+        ProcessType processType = cseValidRequest.getProcessType();
+        String jsonCracUrl = "/CSE/VALID/crac.utc";
+        String raoParameterUrl = "/CSE/VALID/raoParameter.utc";
+
+        // First hour: network shifted to an Italian import of 57 MW, secure up to 30 MW above it
+        TTimestamp firstTimestamp = TimestampTestData.getTimestampWithMniiAndMibniiAndAntcfinalAndActualNtcBelowTarget();
+        TTimestampWrapper firstTimestampWrapper = new TTimestampWrapper(firstTimestamp, eicCodesConfiguration, eicCodesMapper);
+        Network firstNetwork = mock(Network.class);
+        DichotomyEngine<RaoSuccessResponse> firstEngine = mock(DichotomyEngine.class);
+        DichotomyResult<RaoSuccessResponse> firstDichotomyResult = mock(DichotomyResult.class);
+        when(firstEngine.run(firstNetwork)).thenReturn(firstDichotomyResult);
+        when(firstDichotomyResult.hasValidStep()).thenReturn(true);
+        when(firstDichotomyResult.getHighestValidStepValue()).thenReturn(30.0);
+        doReturn(firstEngine).when(dichotomyRunner).getDichotomyEngine(eq(0.0), eq(43.0), any(), any(), any());
+
+        dichotomyRunner.runDichotomy(firstTimestampWrapper, cseValidRequest, jsonCracUrl, raoParameterUrl, firstNetwork, false);
+
+        ArgumentCaptor<Double> secureExchange = ArgumentCaptor.forClass(Double.class);
+        verify(dichotomyHistory, times(1)).record(eq(processType), eq(DichotomyHistory.Direction.FULL_IMPORT), eq(cseValidRequest.getTime()), secureExchange.capture());
+        assertEquals(87.0, secureExchange.getValue());
+
+        // Second hour: network shifted to an Italian import of 20 MW, the same exchange is 67 MW above it
+        TTimestamp secondTimestamp = TimestampTestData.getTimestampWithMniiAndMibniiAndAntcfinalAndActualNtcBelowTarget();
+        secondTimestamp.getMiBNII().setV(BigDecimal.valueOf(20.0));
+        TTimestampWrapper secondTimestampWrapper = new TTimestampWrapper(secondTimestamp, eicCodesConfiguration, eicCodesMapper);
+        Network secondNetwork = mock(Network.class);
+        DichotomyEngine<RaoSuccessResponse> secondEngine = mock(DichotomyEngine.class);
+        when(dichotomyHistory.findNeighbourSecureExchange(processType, DichotomyHistory.Direction.FULL_IMPORT, cseValidRequest.getTime())).thenReturn(OptionalDouble.of(secureExchange.getValue()));
+        doReturn(secondEngine).when(dichotomyRunner).getDichotomyEngine(eq(0.0), eq(80.0), any(), any(), any());
+
+        dichotomyRunner.runDichotomy(secondTimestampWrapper, cseValidRequest, jsonCracUrl, raoParameterUrl, secondNetwork, false);
+
+        ArgumentCaptor<IndexStrategy<RaoSuccessResponse>> indexStrategy = ArgumentCaptor.forClass(IndexStrategy.class);
+        verify(dichotomyRunner, times(1)).getDichotomyEngine(eq(0.0), eq(80.0), any(), any(), indexStrategy.capture());
+        WarmStartIndexStrategy<RaoSuccessResponse> warmStartIndexStrategy = assertInstanceOf(WarmStartIndexStrategy.class, indexStrategy.getValue());
+        assertEquals(67.0, warmStartIndexStrategy.getExpectedValue());
+        verify(secondEngine, times(1)).run(secondNetwork);
+    }
 }
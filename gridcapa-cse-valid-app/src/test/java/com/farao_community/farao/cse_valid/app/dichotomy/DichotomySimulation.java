@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.apache.commons.lang3.tuple.Pair;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Simulation of dichotomies on synthetic worst margin curves, driving index strategies as the
+ * dichotomy engine does without running any RAO. A step is valid when its worst margin is positive,
+ * and fails as on a GLSK limitation when its margin is NaN. The margin is the validation data of the step.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class DichotomySimulation {
+    static final double MIN_VALUE = 0;
+    static final double MAX_VALUE = 6000;
+    static final double PRECISION = 50;
+    /**
+     * Secure limits over which strategies are compared, spread over the whole index.
+     */
+    static final double[] SECURE_LIMITS = DoubleStream.iterate(150, limit -> limit < MAX_VALUE - 100, limit -> limit + 97).toArray();
+
+    private DichotomySimulation() {
+        // Test utility class
+    }
+
+    /**
+     * Runs a dichotomy on the given worst margin curve, checks that it converged and returns the tested steps.
+     */
+    static List<Double> run(IndexStrategy<Double> indexStrategy, DoubleUnaryOperator worstMarginCurve) {
+        Index<Double> index = new Index<>(MIN_VALUE, MAX_VALUE, PRECISION);
+        List<Double> steps = new ArrayList<>();
+        while (!indexStrategy.precisionReached(index)) {
+            double step = indexStrategy.nextValue(index);
+            assertTrue(steps.size() < 100, "Dichotomy does not converge");
+            steps.add(step);
+            index.addDichotomyStepResult(step, stepResult(worstMarginCurve.applyAsDouble(step)));
+        }
+        Pair<Double, DichotomyStepResult<Double>> higherValidStep = index.higherValidStep();
+        Pair<Double, DichotomyStepResult<Double>> lowestInvalidStep = index.lowestInvalidStep();
+        if (higherValidStep != null && lowestInvalidStep != null) {
+            assertTrue(lowestInvalidStep.getLeft() - higherValidStep.getLeft() <= PRECISION);
+        }
+        return steps;
+    }
+
+    /**
+     * Returns the average number of steps, i.e. of RAO runs, needed to find each of the {@link #SECURE_LIMITS}.
+     */
+    static double averageStepCount(Supplier<IndexStrategy<Double>> indexStrategySupplier, DoubleFunction<DoubleUnaryOperator> worstMarginCurveForLimit) {
+        return DoubleStream.of(SECURE_LIMITS)
+                .map(limit -> run(indexStrategySupplier.get(), worstMarginCurveForLimit.apply(limit)).size())
+                .average()
+                .orElseThrow();
+    }
+
+    /**
+     * Returns the largest number of additional steps needed by the first strategy compared to the second one.
+     */
+    static int maxAdditionalStepCount(Supplier<IndexStrategy<Double>> indexStrategySupplier, Supplier<IndexStrategy<Double>> referenceIndexStrategySupplier,
+                                      DoubleFunction<DoubleUnaryOperator> worstMarginCurveForLimit) {
+        return DoubleStream.of(SECURE_LIMITS)
+                .mapToInt(limit -> run(indexStrategySupplier.get(), worstMarginCurveForLimit.apply(limit)).size()
+                        - run(referenceIndexStrategySupplier.get(), worstMarginCurveForLimit.apply(limit)).size())
+                .max()
+                .orElseThrow();
+    }
+
+    static OptionalDouble worstMargin(DichotomyStepResult<Double> stepResult) {
+        Double margin = stepResult.getValidationData();
+        return margin != null ? OptionalDouble.of(margin) : OptionalDouble.empty();
+    }
+
+    private static DichotomyStepResult<Double> stepResult(double worstMargin) {
+        if (Double.isNaN(worstMargin)) {
+            return DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, "GLSK limits have been reached");
+        }
+        RaoResult raoResult = Mockito.mock(RaoResult.class);
+        Mockito.when(raoResult.isSecure()).thenReturn(worstMargin >= 0);
+        Mockito.when(raoResult.isSecure(Mockito.any())).thenReturn(worstMargin >= 0);
+        return DichotomyStepResult.fromNetworkValidationResult(raoResult, worstMargin);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MarginInterpolationIndexStrategyTest {
+
+    private static final Supplier<IndexStrategy<Double>> MARGIN_INTERPOLATION = () -> new MarginInterpolationIndexStrategy<>(DichotomySimulation::worstMargin);
+    private static final Supplier<IndexStrategy<Double>> RANGE_DIVISION = () -> new RangeDivisionIndexStrategy<>(false);
+
+    /**
+     * Worst margin decreasing by 0.3 MW per MW of shift.
+     */
+    private static final DoubleFunction<DoubleUnaryOperator> LINEAR = limit -> step -> 0.3 * (limit - step);
+    /**
+     * Worst margin decreasing faster far from the secure limit, as when other CNECs become limiting.
+     */
+    private static final DoubleFunction<DoubleUnaryOperator> CURVED = limit -> step -> 0.3 * (limit - step) + 0.00015 * (limit - step) * Math.abs(limit - step);
+    /**
+     * Worst margin perturbed by remedial actions chosen differently from one step to another.
+     */
+    private static final DoubleFunction<DoubleUnaryOperator> NOISY = limit -> step -> 0.3 * (limit - step) + 15 * Math.sin(step / 37);
+    /**
+     * Worst margin carrying no information on the distance to the secure limit.
+     */
+    private static final DoubleFunction<DoubleUnaryOperator> STEPWISE = limit -> step -> step <= limit ? 500 : -500;
+
+    @Test
+    void linearMarginsNeedHalfTheStepsOfRangeDivision() {
+        double marginInterpolationStepCount = DichotomySimulation.averageStepCount(MARGIN_INTERPOLATION, LINEAR);
+        double rangeDivisionStepCount = DichotomySimulation.averageStepCount(RANGE_DIVISION, LINEAR);
+
+        assertEquals(9, rangeDivisionStepCount);
+        assertTrue(marginInterpolationStepCount <= rangeDivisionStepCount / 2);
+        assertTrue(DichotomySimulation.maxAdditionalStepCount(MARGIN_INTERPOLATION, RANGE_DIVISION, LINEAR) < 0);
+    }
+
+    @Test
+    void noisyMarginsNeedFewerStepsThanRangeDivision() {
+        double marginInterpolationStepCount = DichotomySimulation.averageStepCount(MARGIN_INTERPOLATION, NOISY);
+
+        assertTrue(marginInterpolationStepCount <= 0.6 * DichotomySimulation.averageStepCount(RANGE_DIVISION, NOISY));
+        assertTrue(DichotomySimulation.maxAdditionalStepCount(MARGIN_INTERPOLATION, RANGE_DIVISION, NOISY) <= 0);
+    }
+
+    @Test
+    void curvedMarginsNeedFewerStepsThanRangeDivision() {
+        double marginInterpolationStepCount = DichotomySimulation.averageStepCount(MARGIN_INTERPOLATION, CURVED);
+
+        assertTrue(marginInterpolationStepCount < DichotomySimulation.averageStepCount(RANGE_DIVISION, CURVED));
+        assertTrue(DichotomySimulation.maxAdditionalStepCount(MARGIN_INTERPOLATION, RANGE_DIVISION, CURVED) <= 1);
+    }
+
+    @Test
+    void misleadingMarginsFallBackToRangeDivision() {
+        assertTrue(DichotomySimulation.averageStepCount(MARGIN_INTERPOLATION, STEPWISE) <= DichotomySimulation.averageStepCount(RANGE_DIVISION, STEPWISE));
+        assertTrue(DichotomySimulation.maxAdditionalStepCount(MARGIN_INTERPOLATION, RANGE_DIVISION, STEPWISE) <= 2);
+    }
+
+    @Test
+    void missingMarginsFallBackToRangeDivision() {
+        IndexStrategy<Double> indexStrategy = new MarginInterpolationIndexStrategy<>(stepResult -> OptionalDouble.empty());
+
+        assertEquals(DichotomySimulation.run(RANGE_DIVISION.get(), LINEAR.apply(2150)), DichotomySimulation.run(indexStrategy, LINEAR.apply(2150)));
+    }
+
+    @Test
+    void failedStepsFallBackToRangeDivision() {
+        DoubleUnaryOperator failingAboveLimit = step -> step <= 2150 ? 0.3 * (2150 - step) : Double.NaN;
+
+        assertEquals(DichotomySimulation.run(RANGE_DIVISION.get(), failingAboveLimit), DichotomySimulation.run(MARGIN_INTERPOLATION.get(), failingAboveLimit));
+    }
+
+    @Test
+    void secureLimitIsBracketedRightAfterAnAccuratePrediction() {
+        List<Double> steps = DichotomySimulation.run(MARGIN_INTERPOLATION.get(), LINEAR.apply(2150));
+
+        assertEquals(List.of(6000., 0., 2150., 2175.), steps);
+    }
+
+    @Test
+    void boundsOfTheIndexAreTestedFirst() {
+        assertEquals(List.of(6000.), DichotomySimulation.run(MARGIN_INTERPOLATION.get(), LINEAR.apply(6500)));
+        assertEquals(List.of(6000., 0.), DichotomySimulation.run(MARGIN_INTERPOLATION.get(), LINEAR.apply(-100)));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.cse_valid.api.exception.CseValidInternalException;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ParallelDichotomyEngineTest {
+
+    private static final String INITIAL_VARIANT = "InitialState";
+    private static final double SECURE_LIMIT = 1234;
+
+    private final Network network = Mockito.mock(Network.class);
+    private final VariantManager variantManager = Mockito.mock(VariantManager.class);
+    private final ThreadLocal<String> workingVariant = ThreadLocal.withInitial(() -> INITIAL_VARIANT);
+    private final Map<String, Double> shiftedValueByVariant = new ConcurrentHashMap<>();
+    private final Set<String> variants = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger validationCount = new AtomicInteger();
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void init() {
+        executorService = Executors.newFixedThreadPool(4);
+        variants.add(INITIAL_VARIANT);
+        Mockito.when(network.getVariantManager()).thenReturn(variantManager);
+        Mockito.when(variantManager.getWorkingVariantId()).thenAnswer(invocation -> workingVariant.get());
+        Mockito.doAnswer(invocation -> {
+            workingVariant.set(invocation.getArgument(0));
+            return null;
+        }).when(variantManager).setWorkingVariant(Mockito.anyString());
+        Mockito.doAnswer(invocation -> variants.add(invocation.getArgument(1)))
+                .when(variantManager).cloneVariant(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean());
+        Mockito.doAnswer(invocation -> variants.remove(invocation.getArgument(0)))
+                .when(variantManager).removeVariant(Mockito.anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private NetworkShifter shifter() {
+        return new NetworkShifter() {
+            @Override
+            public void shiftNetwork(double stepValue, Network network) {
+                shiftedValueByVariant.put(network.getVariantManager().getWorkingVariantId(), stepValue);
+            }
+        };
+    }
+
+    private NetworkValidator<Double> validator() {
+        return (n, previousResult) -> {
+            validationCount.incrementAndGet();
+            double value = shiftedValueByVariant.get(n.getVariantManager().getWorkingVariantId());
+            RaoResult raoResult = Mockito.mock(RaoResult.class);
+            Mockito.when(raoResult.isSecure()).thenReturn(value <= SECURE_LIMIT);
+            Mockito.when(raoResult.isSecure(Mockito.any())).thenReturn(value <= SECURE_LIMIT);
+            return DichotomyStepResult.fromNetworkValidationResult(raoResult, value);
+        };
+    }
+
+    private DichotomyResult<Double> run(int parallelism) {
+        ParallelDichotomyEngine<Double> engine = new ParallelDichotomyEngine<>(
+                new Index<>(0, 3000, 50),
+                new RangeDivisionIndexStrategy<>(false),
+                shifter(),
+                validator(),
+                parallelism,
+                executorService);
+        return engine.run(network);
+    }
+
+    @Test
+    void parallelDichotomyConvergesToSecureLimit() {
+        DichotomyResult<Double> result = run(4);
+
+        Assertions.assertThat(result.hasValidStep()).isTrue();
+        Assertions.assertThat(result.getHighestValidStepValue()).isBetween(SECURE_LIMIT - 50, SECURE_LIMIT);
+        Assertions.assertThat(variants).containsExactly(INITIAL_VARIANT);
+        Mockito.verify(variantManager).allowVariantMultiThreadAccess(true);
+        Mockito.verify(variantManager).allowVariantMultiThreadAccess(false);
+    }
+
+    @Test
+    void parallelismOfOneBehavesAsSequentialDichotomy() {
+        DichotomyResult<Double> result = run(1);
+
+        Assertions.assertThat(result.getHighestValidStepValue()).isBetween(SECURE_LIMIT - 50, SECURE_LIMIT);
+        Assertions.assertThat(variants).containsExactly(INITIAL_VARIANT);
+    }
+
+    @Test
+    void allStepsInvalidLeadsToNoValidStep() {
+        ParallelDichotomyEngine<Double> engine = new ParallelDichotomyEngine<>(
+                new Index<>(2000, 3000, 50),
+                new RangeDivisionIndexStrategy<>(false),
+                shifter(),
+                validator(),
+                3,
+                executorService);
+
+        DichotomyResult<Double> result = engine.run(network);
+
+        Assertions.assertThat(result.hasValidStep()).isFalse();
+        Assertions.assertThat(validationCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void variantsOfCancelledValidationsAreRemovedOnceTheyAreFinished() {
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        CountDownLatch raoResponse = new CountDownLatch(1);
+        AtomicBoolean variantKeptDuringValidation = new AtomicBoolean();
+        NetworkValidator<Double> failingValidator = (n, previousResult) -> {
+            String variant = n.getVariantManager().getWorkingVariantId();
+            if (shiftedValueByVariant.get(variant) == 0) {
+                // Fails only once the validation of the other step is running
+                awaitStart(siblingStarted);
+                throw new IllegalStateException("RAO runner is unreachable");
+            }
+            siblingStarted.countDown();
+            try {
+                // Never counted down: the validation waits until it is cancelled
+                raoResponse.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            variantKeptDuringValidation.set(variants.contains(variant));
+            return DichotomyStepResult.fromFailure(ReasonInvalid.VALIDATION_FAILED, "Interrupted");
+        };
+        ParallelDichotomyEngine<Double> engine = new ParallelDichotomyEngine<>(
+                new Index<>(0, 3000, 50),
+                new RangeDivisionIndexStrategy<>(false),
+                shifter(),
+                failingValidator,
+                2,
+                executorService);
+
+        Assertions.assertThatThrownBy(() -> engine.run(network)).isInstanceOf(CseValidInternalException.class);
+        Assertions.assertThat(variantKeptDuringValidation.get()).isTrue();
+        Assertions.assertThat(variants).containsExactly(INITIAL_VARIANT);
+    }
+
+    private static void awaitStart(CountDownLatch started) {
+        try {
+            Assertions.assertThat(started.await(30, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
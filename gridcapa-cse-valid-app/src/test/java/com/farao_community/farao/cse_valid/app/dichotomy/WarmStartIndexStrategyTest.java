@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class WarmStartIndexStrategyTest {
+
+    @Test
+    void accurateExpectationNeedsFewerStepsThanRangeDivision() {
+        List<Double> warmStartSteps = DichotomySimulation.run(new WarmStartIndexStrategy<>(2600, 200), secureUpTo(2480));
+        List<Double> rangeDivisionSteps = DichotomySimulation.run(new RangeDivisionIndexStrategy<>(false), secureUpTo(2480));
+
+        assertEquals(List.of(2800., 2400.), warmStartSteps.subList(0, 2));
+        assertTrue(warmStartSteps.size() < rangeDivisionSteps.size());
+    }
+
+    @Test
+    void intervalIsWidenedWhenSecureLimitIsAboveExpectation() {
+        List<Double> steps = DichotomySimulation.run(new WarmStartIndexStrategy<>(1000, 200), secureUpTo(2900));
+
+        assertEquals(List.of(1200., 1400., 1800., 2600., 4200.), steps.subList(0, 5));
+    }
+
+    @Test
+    void intervalIsWidenedWhenSecureLimitIsBelowExpectation() {
+        List<Double> steps = DichotomySimulation.run(new WarmStartIndexStrategy<>(3000, 200), secureUpTo(1000));
+
+        assertEquals(List.of(3200., 2800., 2600., 2200., 1400., 0.), steps.subList(0, 6));
+    }
+
+    @Test
+    void boundsOfTheIndexAreNotExceeded() {
+        assertEquals(List.of(DichotomySimulation.MAX_VALUE), DichotomySimulation.run(new WarmStartIndexStrategy<>(5900, 200), secureUpTo(DichotomySimulation.MAX_VALUE)));
+        assertEquals(List.of(200., 0.), DichotomySimulation.run(new WarmStartIndexStrategy<>(-100, 200), secureUpTo(-1)));
+    }
+
+    @Test
+    void bracketedStepsAreChosenByGivenStrategy() {
+        List<Double> steps = DichotomySimulation.run(
+                new WarmStartIndexStrategy<>(2000, 200, new MarginInterpolationIndexStrategy<>(DichotomySimulation::worstMargin)),
+                secureUpTo(2150));
+
+        assertEquals(List.of(2200., 1800., 2150.), steps);
+    }
+
+    private static DoubleUnaryOperator secureUpTo(double secureLimit) {
+        return step -> secureLimit - step;
+    }
+}
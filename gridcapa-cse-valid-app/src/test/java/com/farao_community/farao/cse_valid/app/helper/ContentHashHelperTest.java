@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ContentHashHelperTest {
+
+    @Test
+    void sha256OfContent() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                ContentHashHelper.sha256("abc".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void sha256OfValuesIsDelimited() {
+        assertEquals(ContentHashHelper.sha256("ab", "c"), ContentHashHelper.sha256("ab", "c"));
+        assertNotEquals(ContentHashHelper.sha256("ab", "c"), ContentHashHelper.sha256("a", "bc"));
+    }
+}
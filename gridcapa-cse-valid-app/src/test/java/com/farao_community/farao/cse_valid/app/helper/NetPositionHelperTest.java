@@ -6,11 +6,26 @@
  */
 package com.farao_community.farao.cse_valid.app.helper;
 
+import com.powsybl.balances_adjustment.util.BorderBasedCountryArea;
+import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Oualid Aloui {@literal <oualid.aloui at rte-france.com>}
@@ -34,4 +49,49 @@ class NetPositionHelperTest {
         double mniiActual = Math.round(NetPositionHelper.computeFranceImportFromItaly(network));
         assertEquals(mniiExpected, mniiActual);
     }
+
+    @Test
+    void loadFlowIsWarmStartedOnComputedNetwork() {
+        Network network = Network.read("20211125_1930_2D4_CO_Final_CSE1.uct", getClass().getResourceAsStream("/20211125_1930_2D4_CO_Final_CSE1.uct"));
+        LoadFlowParameters coldStartParameters = NetPositionHelper.getLoadFlowParameters(network);
+        assertNotEquals(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES, coldStartParameters.getVoltageInitMode());
+        assertSame(coldStartParameters, NetPositionHelper.getLoadFlowParameters(network));
+
+        double coldStartItalianImport = NetPositionHelper.computeItalianImport(network);
+        assertEquals(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES, NetPositionHelper.getLoadFlowParameters(network).getVoltageInitMode());
+        assertEquals(coldStartItalianImport, NetPositionHelper.computeItalianImport(network), 1.);
+    }
+
+    @Test
+    void divergedWarmStartIsRetriedWithConfiguredVoltageInitialization() {
+        Network network = Network.read("20211125_1930_2D4_CO_Final_CSE1.uct", getClass().getResourceAsStream("/20211125_1930_2D4_CO_Final_CSE1.uct"));
+        double coldStartItalianImport = NetPositionHelper.computeItalianImport(network);
+        LoadFlowResult divergedResult = mock(LoadFlowResult.class);
+        when(divergedResult.isFailed()).thenReturn(true);
+
+        try (MockedStatic<LoadFlow> loadFlowMockedStatic = Mockito.mockStatic(LoadFlow.class, Mockito.CALLS_REAL_METHODS)) {
+            loadFlowMockedStatic.when(() -> LoadFlow.run(eq(network), any(LoadFlowParameters.class))).thenAnswer(invocation ->
+                    invocation.<LoadFlowParameters>getArgument(1).getVoltageInitMode() == LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES
+                            ? divergedResult
+                            : invocation.callRealMethod());
+
+            assertEquals(coldStartItalianImport, NetPositionHelper.computeItalianImport(network), 1.);
+            loadFlowMockedStatic.verify(() -> LoadFlow.run(eq(network), any(LoadFlowParameters.class)), times(2));
+        }
+    }
+
+    @Test
+    void borderIndexFlowsAreEqualToCountryAreaFlows() {
+        Network network = Network.read("20211125_1930_2D4_CO_Final_CSE1.uct", getClass().getResourceAsStream("/20211125_1930_2D4_CO_Final_CSE1.uct"));
+        NetPositionHelper.computeItalianImport(network);
+
+        double[] indexedFlows = ItalianBorderIndex.of(network).computeFlowsToItaly(network);
+        BorderBasedCountryArea itArea = (BorderBasedCountryArea) new CountryAreaFactory(Country.IT).create(network);
+        for (int i = 0; i < ItalianBorderIndex.NEIGHBOURS.size(); i++) {
+            Country neighbour = ItalianBorderIndex.NEIGHBOURS.get(i);
+            double countryAreaFlow = ((BorderBasedCountryArea) new CountryAreaFactory(neighbour).create(network)).getLeavingFlowToCountry(itArea);
+            assertEquals(countryAreaFlow, indexedFlows[i], 1e-6, neighbour.toString());
+        }
+        assertSame(ItalianBorderIndex.of(network), ItalianBorderIndex.of(network));
+    }
 }
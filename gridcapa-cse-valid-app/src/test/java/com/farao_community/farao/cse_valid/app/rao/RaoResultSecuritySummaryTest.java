@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.rao;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.PhysicalParameter;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RaoResultSecuritySummaryTest {
+    private static final Map<String, String> EXPORTED_RAO_RESULTS = Map.of("1.8", "/raoResult.json");
+    private static final Pattern MARGIN_PATTERN = Pattern.compile("(\"margin\" : )(-?[0-9.]+(?:E-?[0-9]+)?)");
+
+    @Test
+    void everySupportedVersionHasAnExportedRaoResult() {
+        assertEquals(RaoResultSecuritySummary.SUPPORTED_VERSIONS, EXPORTED_RAO_RESULTS.keySet());
+    }
+
+    /**
+     * Compares the verdict with the one of the imported RAO result on the exported RAO result of each supported
+     * version, as exported and with all its margins shifted so that it is secure and unsecure.
+     */
+    @ParameterizedTest
+    @MethodSource("exportedRaoResults")
+    void verdictMatchesImportedRaoResult(String version, double marginShift) throws IOException {
+        Network network = Network.read("TestCase16Nodes.xiidm", getClass().getResourceAsStream("/TestCase16Nodes.xiidm"));
+        Crac crac;
+        try (InputStream cracInputStream = getClass().getResourceAsStream("/SL_ep13us3case1.json")) {
+            crac = Crac.read("crac.json", cracInputStream, network);
+        }
+        String exportedRaoResult;
+        try (InputStream raoResultInputStream = getClass().getResourceAsStream(EXPORTED_RAO_RESULTS.get(version))) {
+            exportedRaoResult = new String(Objects.requireNonNull(raoResultInputStream).readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String raoResultJson = MARGIN_PATTERN.matcher(exportedRaoResult)
+                .replaceAll(margin -> margin.group(1) + (Double.parseDouble(margin.group(2)) + marginShift));
+
+        RaoResult raoResult = new RaoResultJsonImporter().importData(new ByteArrayInputStream(raoResultJson.getBytes(StandardCharsets.UTF_8)), crac);
+        RaoResultSecuritySummary securitySummary = read(raoResultJson).orElseThrow();
+
+        assertEquals(raoResult.isSecure(), securitySummary.isSecure());
+        assertEquals(raoResult.isSecure(PhysicalParameter.FLOW), securitySummary.isSecure(PhysicalParameter.FLOW));
+    }
+
+    private static Stream<Arguments> exportedRaoResults() {
+        return EXPORTED_RAO_RESULTS.keySet().stream()
+                .flatMap(version -> Stream.of(Arguments.of(version, 0.), Arguments.of(version, 10_000.), Arguments.of(version, -10_000.)));
+    }
+
+    @Test
+    void lastOptimizedMarginOfEachCnecIsUsed() throws IOException {
+        RaoResultSecuritySummary securitySummary = read("""
+            {"version": "1.8", "computationStatus": "default",
+             "flowCnecResults": [
+               {"flowCnecId": "cnec1", "initial": {"ampere": {"margin": -10.0}}, "preventive": {"ampere": {"margin": 5.0}}},
+               {"flowCnecId": "cnec2", "initial": {"megawatt": {"margin": 20.0, "side1": {"flow": 3.0}}}}],
+             "angleCnecResults": [
+               {"angleCnecId": "angle", "initial": {"degree": {"angle": 1.0, "margin": 10.0}}, "curative": {"degree": {"angle": 9.0, "margin": -1.0}}}]}
+            """).orElseThrow();
+
+        assertTrue(securitySummary.isSecure(PhysicalParameter.FLOW));
+        assertFalse(securitySummary.isSecure(PhysicalParameter.ANGLE));
+        assertTrue(securitySummary.isSecure(PhysicalParameter.VOLTAGE));
+        assertFalse(securitySummary.isSecure());
+        assertEquals(OptionalDouble.of(20.0), securitySummary.getWorstFlowMarginInMegawatt());
+    }
+
+    @Test
+    void failedRaoIsNotSecure() throws IOException {
+        RaoResultSecuritySummary securitySummary = read("""
+            {"version": "1.8", "computationStatus": "failure", "flowCnecResults": []}
+            """).orElseThrow();
+
+        assertFalse(securitySummary.isSecure());
+        assertTrue(securitySummary.getWorstFlowMarginInMegawatt().isEmpty());
+    }
+
+    @Test
+    void verdictIsNotGivenForUnknownVersionOrPartialFailure() throws IOException {
+        assertTrue(read("""
+            {"version": "2.0", "computationStatus": "default", "flowCnecResults": []}
+            """).isEmpty());
+        assertTrue(read("""
+            {"version": "1.8", "computationStatus": "partial-failure", "flowCnecResults": []}
+            """).isEmpty());
+    }
+
+    @Test
+    void lazyRaoResultIsImportedOnlyWhenNeeded() throws IOException {
+        RaoResultSecuritySummary securitySummary = read("""
+            {"version": "1.8", "computationStatus": "default", "flowCnecResults": []}
+            """).orElseThrow();
+        AtomicInteger importCount = new AtomicInteger();
+        RaoResult importedRaoResult = mock(RaoResult.class);
+        when(importedRaoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+
+        RaoResult raoResult = LazyRaoResult.create(securitySummary, () -> {
+            importCount.incrementAndGet();
+            return importedRaoResult;
+        });
+
+        assertTrue(raoResult.isSecure());
+        assertTrue(raoResult.isSecure(PhysicalParameter.FLOW));
+        assertEquals(0, importCount.get());
+        assertEquals(ComputationStatus.DEFAULT, raoResult.getComputationStatus());
+        assertEquals(ComputationStatus.DEFAULT, raoResult.getComputationStatus());
+        assertEquals(1, importCount.get());
+    }
+
+    @Test
+    void worstFlowMarginInMegawattIsReadFromLazyRaoResultOnly() throws IOException {
+        RaoResultSecuritySummary securitySummary = read("""
+            {"version": "1.8", "computationStatus": "default",
+             "flowCnecResults": [
+               {"flowCnecId": "cnec1", "initial": {"megawatt": {"margin": -10.0}}, "preventive": {"ampere": {"margin": 5.0}, "megawatt": {"margin": 3.0}}},
+               {"flowCnecId": "cnec2", "initial": {"ampere": {"margin": -20.0}}}]}
+            """).orElseThrow();
+        AtomicInteger importCount = new AtomicInteger();
+
+        RaoResult raoResult = LazyRaoResult.create(securitySummary, () -> {
+            importCount.incrementAndGet();
+            return mock(RaoResult.class);
+        });
+
+        assertEquals(OptionalDouble.of(3.0), LazyRaoResult.getWorstFlowMarginInMegawatt(raoResult));
+        assertEquals(0, importCount.get());
+        assertTrue(LazyRaoResult.getWorstFlowMarginInMegawatt(mock(RaoResult.class)).isEmpty());
+    }
+
+    private static Optional<RaoResultSecuritySummary> read(String json) throws IOException {
+        return RaoResultSecuritySummary.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
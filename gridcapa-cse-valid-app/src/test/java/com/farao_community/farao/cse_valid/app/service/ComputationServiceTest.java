@@ -18,15 +18,26 @@ import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -105,7 +116,7 @@ class ComputationServiceTest {
         String variantName = "1234";
         String networkNameOrId = "test";
         String scaledNetworkDirPath = basePath + variantName;
-        String networkFilePath = scaledNetworkDirPath + networkNameOrId + ".xiidm";
+        String networkFilePath = scaledNetworkDirPath + networkNameOrId;
         String networkFiledUrl = "CSE/Valid/network.utc";
         String resultsDestination = "CSE/VALID/" + scaledNetworkDirPath;
 
@@ -126,4 +137,60 @@ class ComputationServiceTest {
 
         assertEquals(raoResponse, response);
     }
+
+    @Test
+    void computeOnFinalNetworkAppliesShiftAndPreventiveRemedialActionsOnTemporaryVariant() throws GlskLimitationException, ShiftingException {
+        Network network = Network.read("TestCase16Nodes.xiidm", getClass().getResourceAsStream("/TestCase16Nodes.xiidm"));
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+        NetworkShifter networkShifter = mock(NetworkShifter.class);
+        Crac crac = mock(Crac.class);
+        State preventiveState = mock(State.class);
+        RaoResult raoResult = mock(RaoResult.class);
+        NetworkAction networkAction = mock(NetworkAction.class);
+        PstRangeAction pstRangeAction = mock(PstRangeAction.class);
+        when(crac.getPreventiveState()).thenReturn(preventiveState);
+        when(raoResult.getActivatedNetworkActionsDuringState(preventiveState)).thenReturn(Set.of(networkAction));
+        when(raoResult.getActivatedRangeActionsDuringState(preventiveState)).thenReturn(Set.of(pstRangeAction));
+        when(raoResult.getOptimizedSetPointOnState(preventiveState, pstRangeAction)).thenReturn(3.);
+        List<String> computedVariants = new ArrayList<>();
+
+        OptionalDouble value = computationService.computeOnFinalNetwork(network, 200., networkShifter, crac, raoResult, finalNetwork -> {
+            computedVariants.add(finalNetwork.getVariantManager().getWorkingVariantId());
+            return 42.;
+        });
+
+        assertEquals(OptionalDouble.of(42.), value);
+        assertEquals(1, computedVariants.size());
+        assertNotEquals(initialVariantId, computedVariants.get(0));
+        verify(networkShifter, times(1)).shiftNetwork(200., network);
+        verify(networkAction, times(1)).apply(network);
+        verify(pstRangeAction, times(1)).apply(network, 3.);
+        assertEquals(initialVariantId, network.getVariantManager().getWorkingVariantId());
+        assertEquals(List.of(initialVariantId), List.copyOf(network.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    void computeOnFinalNetworkIsEmptyWhenShiftFails() throws GlskLimitationException, ShiftingException {
+        Network network = Network.read("TestCase16Nodes.xiidm", getClass().getResourceAsStream("/TestCase16Nodes.xiidm"));
+        NetworkShifter networkShifter = mock(NetworkShifter.class);
+        doThrow(GlskLimitationException.class).when(networkShifter).shiftNetwork(200., network);
+
+        OptionalDouble value = computationService.computeOnFinalNetwork(network, 200., networkShifter, mock(Crac.class), mock(RaoResult.class), finalNetwork -> 42.);
+
+        assertTrue(value.isEmpty());
+        assertEquals(1, network.getVariantManager().getVariantIds().size());
+    }
+
+    @Test
+    void initialStateIsRemovedWhenItHasNotBeenUsed() {
+        Network network = Network.read("TestCase16Nodes.xiidm", getClass().getResourceAsStream("/TestCase16Nodes.xiidm"));
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+
+        computationService.saveInitialState(network);
+        assertEquals(2, network.getVariantManager().getVariantIds().size());
+        computationService.removeInitialState(network);
+        computationService.removeInitialState(network);
+
+        assertEquals(List.of(initialVariantId), List.copyOf(network.getVariantManager().getVariantIds()));
+    }
 }
@@ -31,6 +31,7 @@ import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
@@ -266,23 +267,27 @@ class ExportCornerComputationServiceTest {
         when(cracCreationContext.getCrac()).thenReturn(crac);
         AbstractRaoResponse raoResponse = mock(AbstractRaoResponse.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(true);
 
         exportCornerComputationService.computeTimestamp(timestampWrapper, cseValidRequest, tcDocumentTypeWriter);
 
+        verify(computationService, times(1)).saveInitialState(network);
         verify(computationService, times(1)).shiftNetwork(shiftValue, network, networkShifter);
         verify(computationService, times(1)).runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl);
         verify(cseValidRaoRunner, times(1)).isSecure(raoResponse, network);
         verify(tcDocumentTypeWriter, times(1)).fillTimestampExportCornerSuccess(timestamp, timestamp.getMIEC().getV());
+        verify(computationService, times(1)).removeInitialState(network);
     }
 
     @Test
@@ -308,13 +313,15 @@ class ExportCornerComputationServiceTest {
         when(cracCreationContext.getCrac()).thenReturn(crac);
         AbstractRaoResponse raoResponse = mock(AbstractRaoResponse.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(true);
 
@@ -352,16 +359,18 @@ class ExportCornerComputationServiceTest {
         RaoSuccessResponse raoResponse = mock(RaoSuccessResponse.class);
         RaoResult raoResult = mock(RaoResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -404,16 +413,18 @@ class ExportCornerComputationServiceTest {
         RaoSuccessResponse raoResponse = mock(RaoSuccessResponse.class);
         RaoResult raoResult = mock(RaoResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -457,16 +468,18 @@ class ExportCornerComputationServiceTest {
         DichotomyResult<RaoSuccessResponse> dichotomyResult = mock(DichotomyResult.class);
         RaoResult raoResult = mock(RaoResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -511,16 +524,18 @@ class ExportCornerComputationServiceTest {
         DichotomyResult<RaoSuccessResponse> dichotomyResult = mock(DichotomyResult.class);
         RaoResult raoResult = mock(RaoResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -572,16 +587,18 @@ class ExportCornerComputationServiceTest {
         RaoResult raoResult = mock(RaoResult.class);
         DichotomyStepResult<RaoSuccessResponse> highestValidStep = mock(DichotomyStepResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -640,16 +657,18 @@ class ExportCornerComputationServiceTest {
         RaoResult raoResult = mock(RaoResult.class);
         DichotomyStepResult<RaoSuccessResponse> highestValidStep = mock(DichotomyStepResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -711,16 +730,18 @@ class ExportCornerComputationServiceTest {
         RaoResult raoResult = mock(RaoResult.class);
         DichotomyStepResult<RaoSuccessResponse> highestValidStep = mock(DichotomyStepResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -779,16 +800,18 @@ class ExportCornerComputationServiceTest {
         RaoResult raoResult = mock(RaoResult.class);
         DichotomyStepResult<RaoSuccessResponse> highestValidStep = mock(DichotomyStepResult.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForExportCornerWithAllCountries(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
         when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFileUrl);
@@ -30,6 +30,7 @@ import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
@@ -204,14 +205,16 @@ class FullImportComputationServiceTest {
         when(cracCreationContext.getCrac()).thenReturn(crac);
         AbstractRaoResponse raoResponse = mock(AbstractRaoResponse.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(false);
 
@@ -221,6 +224,7 @@ class FullImportComputationServiceTest {
             fullImportComputationService.computeTimestamp(timestampWrapper, cseValidRequest, tcDocumentTypeWriter);
         }
 
+        verify(fileImporter, times(1)).importGlsk(glskUrl);
         verify(computationService, times(1)).shiftNetwork(shiftValue, network, networkShifter);
         verify(computationService, times(1)).runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl);
         verify(cseValidRaoRunner, times(1)).isSecure(raoResponse, network);
@@ -251,14 +255,16 @@ class FullImportComputationServiceTest {
         when(cracCreationContext.getCrac()).thenReturn(crac);
         AbstractRaoResponse raoResponse = mock(AbstractRaoResponse.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(computationService.runRao(cseValidRequest, network, jsonCracUrl, raoParametersUrl)).thenReturn(raoResponse);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(true);
 
@@ -305,19 +311,21 @@ class FullImportComputationServiceTest {
         when(cracCreationContext.getCrac()).thenReturn(crac);
         RaoSuccessResponse raoResponse = mock(RaoSuccessResponse.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
         DichotomyResult<RaoSuccessResponse> dichotomyResult = mock(DichotomyResult.class);
         RaoResult raoResult = mock(RaoResult.class);
         DichotomyStepResult<RaoSuccessResponse> highestValidStep = mock(DichotomyStepResult.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(true);
 
         when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
@@ -379,19 +387,21 @@ class FullImportComputationServiceTest {
         when(cracCreationContext.getCrac()).thenReturn(crac);
         RaoSuccessResponse raoResponse = mock(RaoSuccessResponse.class);
         NetworkShifter networkShifter = mock(NetworkShifter.class);
+        GlskDocument glskDocument = mock(GlskDocument.class);
         DichotomyResult<RaoSuccessResponse> dichotomyResult = mock(DichotomyResult.class);
         RaoResult raoResult = mock(RaoResult.class);
         DichotomyStepResult<RaoSuccessResponse> highestValidStep = mock(DichotomyStepResult.class);
 
         when(fileImporter.importNetwork(cgmUrl)).thenReturn(network);
+        when(fileImporter.importGlsk(glskUrl)).thenReturn(glskDocument);
         when(fileImporter.importCracCreationContext(cracUrl, network)).thenReturn(cracCreationContext);
         when(fileImporter.importNetwork(networkFileUrl)).thenReturn(network);
         when(fileImporter.importRaoResult(raoResultFileUrl, crac)).thenReturn(raoResult);
 
-        when(fileExporter.saveCracInJsonFormat(crac, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
+        when(fileExporter.saveCracInJsonFormat(crac, cracUrl, network, processTargetDateTime, processType)).thenReturn(jsonCracUrl);
         when(fileExporter.saveRaoParameters(processTargetDateTime, processType)).thenReturn(raoParametersUrl);
 
-        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
+        when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskDocument, processType)).thenReturn(networkShifter);
         when(cseValidRaoRunner.isSecure(raoResponse, network)).thenReturn(true);
 
         when(cseValidNetworkShifterProvider.getNetworkShifterForFullImport(timestampWrapper, network, glskUrl, processType)).thenReturn(networkShifter);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse_valid.app.service;
+
+import com.farao_community.farao.cse_valid.api.exception.CseValidInvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PreparationPipelineTest {
+
+    @Test
+    void independentStagesRunConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        try (PreparationPipeline pipeline = new PreparationPipeline(Executors.newCachedThreadPool())) {
+            CompletableFuture<String> first = pipeline.stage("first", () -> awaitOther(bothStarted, "a"));
+            CompletableFuture<String> second = pipeline.stage("second", () -> awaitOther(bothStarted, "b"));
+
+            assertEquals("a", pipeline.join(first));
+            assertEquals("b", pipeline.join(second));
+            assertEquals("c", pipeline.run("local", () -> "c"));
+            assertEquals(Set.of("first", "second", "local"), pipeline.getTimings().keySet());
+        }
+    }
+
+    @Test
+    void stageFailureIsRethrownAsIs() {
+        try (PreparationPipeline pipeline = new PreparationPipeline(Executors.newCachedThreadPool())) {
+            CompletableFuture<String> failing = pipeline.stage("failing", () -> {
+                throw new CseValidInvalidDataException("Invalid CRAC");
+            });
+
+            CseValidInvalidDataException exception = assertThrows(CseValidInvalidDataException.class, () -> pipeline.join(failing));
+            assertEquals("Invalid CRAC", exception.getMessage());
+            assertTrue(pipeline.getTimings().containsKey("failing"));
+        }
+    }
+
+    private static String awaitOther(CountDownLatch bothStarted, String result) {
+        bothStarted.countDown();
+        try {
+            assertTrue(bothStarted.await(10, TimeUnit.SECONDS), "Independent stages did not run concurrently");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}